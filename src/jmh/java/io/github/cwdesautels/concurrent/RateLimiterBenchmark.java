@@ -0,0 +1,87 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.function.CheckedSupplier;
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Scaling of the compare and set bucket from one to sixty four threads, on both the granted and rejected paths.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class RateLimiterBenchmark {
+    private static final CheckedSupplier<Integer> SUPPLIER = () -> 42;
+
+    private final RateLimiter granting = RateLimiter.of(1e12, Integer.MAX_VALUE);
+    private final RateLimiter rejecting = RateLimiter.of(1, 1);
+
+    @Benchmark
+    @Threads(1)
+    public Either<RateLimited, Try<Integer>> granted1() {
+        return granting.call(SUPPLIER);
+    }
+
+    @Benchmark
+    @Threads(8)
+    public Either<RateLimited, Try<Integer>> granted8() {
+        return granting.call(SUPPLIER);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Either<RateLimited, Try<Integer>> granted64() {
+        return granting.call(SUPPLIER);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Either<RateLimited, Try<Integer>> rejected1() {
+        return rejecting.call(SUPPLIER);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public Either<RateLimited, Try<Integer>> rejected64() {
+        return rejecting.call(SUPPLIER);
+    }
+}
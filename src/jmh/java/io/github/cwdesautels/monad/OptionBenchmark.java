@@ -0,0 +1,93 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Round trip from a try into an option and back against the same round trip through an optional, run with
+ * {@code -prof gc} to read the allocation rate of the empty case.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class OptionBenchmark {
+    private static final Exception FAILURE = new Exception("I broke :(");
+
+    private Try<Integer> success;
+    private Try<Integer> failure;
+
+    @Setup
+    public void setUp() {
+        success = Try.success(42);
+        failure = Try.failure(FAILURE);
+    }
+
+    @Benchmark
+    public Try<Integer> optionSome() {
+        return success.toOption().toTry();
+    }
+
+    @Benchmark
+    public Try<Integer> optionNone() {
+        return failure.toOption().toTry();
+    }
+
+    @Benchmark
+    public Try<Integer> noneToTry() {
+        return Option.<Integer>none().toTry();
+    }
+
+    @Benchmark
+    public Try<Integer> optionalPresent() {
+        return rewrap(success.toOptional());
+    }
+
+    @Benchmark
+    public Try<Integer> optionalEmpty() {
+        return rewrap(failure.toOptional());
+    }
+
+    private static Try<Integer> rewrap(Optional<Integer> optional) {
+        return optional.map(Try::success)
+                .orElseGet(() -> Try.failure(new NoSuchElementException("No value present")));
+    }
+}
@@ -0,0 +1,166 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Time from launching a fresh JVM to its first try result and exit, without class data sharing, with the default
+ * JDK archive and with an application archive dumped from the same program.
+ * <p>
+ * Class path directories are packed into temporary jars first, since archives only cover jars. Dumping the
+ * application archive needs Java 13 or later.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 20)
+@Fork(1)
+public class StartupBenchmark {
+    @Param({"off", "jdk", "app"})
+    private String sharing;
+
+    private final List<Path> jars = new ArrayList<>();
+    private Path archive;
+    private String classpath;
+    private List<String> options;
+
+    @Setup
+    public void setUp() throws IOException, InterruptedException {
+        archive = Files.createTempFile("monads", ".jsa");
+        classpath = jarred(System.getProperty("java.class.path"));
+
+        if (sharing.equals("off")) {
+            options = List.of("-Xshare:off");
+        } else if (sharing.equals("jdk")) {
+            options = List.of("-Xshare:auto");
+        } else {
+            if (Runtime.version().feature() < 13) {
+                throw new IllegalStateException("Application archives need Java 13: " + Runtime.version());
+            }
+
+            Files.delete(archive);
+            run(List.of("-XX:ArchiveClassesAtExit=" + archive));
+            options = List.of("-XX:SharedArchiveFile=" + archive);
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(archive);
+
+        for (Path jar : jars) {
+            Files.deleteIfExists(jar);
+        }
+    }
+
+    @Benchmark
+    public int firstResult() throws IOException, InterruptedException {
+        return run(options);
+    }
+
+    private int run(List<String> options) throws IOException, InterruptedException {
+        final List<String> arguments = new ArrayList<>();
+
+        arguments.add(Paths.get(System.getProperty("java.home"), "bin", "java").toString());
+        arguments.addAll(options);
+        arguments.add("-cp");
+        arguments.add(classpath);
+        arguments.add(FirstResult.class.getName());
+
+        final int exit = new ProcessBuilder(arguments)
+                .redirectErrorStream(true)
+                .redirectOutput(ProcessBuilder.Redirect.DISCARD)
+                .start()
+                .waitFor();
+
+        if (exit != 0) {
+            throw new IllegalStateException("First result exited with " + exit + ": " + arguments);
+        }
+
+        return exit;
+    }
+
+    private String jarred(String classpath) throws IOException {
+        final List<String> entries = new ArrayList<>();
+
+        for (String entry : classpath.split(File.pathSeparator)) {
+            final Path path = Paths.get(entry);
+
+            if (Files.isDirectory(path)) {
+                final Path jar = Files.createTempFile("monads", ".jar");
+
+                jars.add(jar);
+                pack(path, jar);
+                entries.add(jar.toString());
+            } else {
+                entries.add(entry);
+            }
+        }
+
+        return String.join(File.pathSeparator, entries);
+    }
+
+    private static void pack(Path directory, Path jar) throws IOException {
+        try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+             Stream<Path> files = Files.walk(directory)) {
+            for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                out.putNextEntry(new JarEntry(directory.relativize(file).toString().replace(File.separatorChar, '/')));
+                Files.copy(file, out);
+                out.closeEntry();
+            }
+        }
+    }
+
+    public static final class FirstResult {
+        public static void main(String[] args) {
+            System.out.println(Try.of(() -> 42).get());
+        }
+    }
+}
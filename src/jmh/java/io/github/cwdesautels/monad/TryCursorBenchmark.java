@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Tight evaluation loop through a reused cursor against a fresh try per element, run with {@code -prof gc} to read
+ * the allocation rate.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryCursorBenchmark {
+    private static final Exception FAILURE = new Exception("I broke :(");
+
+    @Param({"0", "16"})
+    private int failureEvery;
+
+    private Integer[] inputs;
+    private CheckedFunction<Integer, Integer> function;
+    private TryCursor<Integer> cursor;
+
+    @Setup
+    public void setUp() {
+        inputs = new Integer[1024];
+
+        for (int i = 0; i < inputs.length; i++) {
+            inputs[i] = i;
+        }
+
+        function = input -> {
+            if (failureEvery > 0 && input % failureEvery == 0) {
+                throw FAILURE;
+            }
+
+            return input;
+        };
+        cursor = TryCursor.create();
+    }
+
+    @Benchmark
+    public long cursor() {
+        long sum = 0;
+
+        for (Integer input : inputs) {
+            sum += cursor.apply(function, input).orElse(0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long tryOf() {
+        long sum = 0;
+
+        for (Integer input : inputs) {
+            sum += Try.of(() -> function.apply(input)).orElse(0);
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Call sites seeing both successes and failures, for comparing inlining of the base release with the sealed release.
+ * <p>
+ * Runs against the base classes by default, prepend the packaged jar through {@code jmh.classpath} on Java 17 to
+ * measure the sealed interfaces and records.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryDispatchBenchmark {
+    private static final Exception FAILURE = new Exception("I broke :(");
+
+    @Param({"0", "10", "50"})
+    private int failurePercent;
+
+    private Try<Integer>[] values;
+
+    @Setup
+    @SuppressWarnings("unchecked")
+    public void setUp() {
+        final Random random = new Random(42);
+
+        values = new Try[1024];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = random.nextInt(100) < failurePercent ? Try.failure(FAILURE) : Try.success(i);
+        }
+    }
+
+    @Benchmark
+    public long map() {
+        long sum = 0;
+
+        for (Try<Integer> value : values) {
+            sum += value.map(i -> i + 1).map(i -> i * 2).orElse(0);
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long recover() {
+        long sum = 0;
+
+        for (Try<Integer> value : values) {
+            sum += value.recover(e -> -1).get();
+        }
+
+        return sum;
+    }
+
+    @Benchmark
+    public long branch() {
+        long sum = 0;
+
+        for (Try<Integer> value : values) {
+            sum += value.isSuccess() ? value.get() : value.getCause().hashCode();
+        }
+
+        return sum;
+    }
+}
@@ -0,0 +1,302 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.cache;
+
+import io.github.cwdesautels.annotation.Nullable;
+import io.github.cwdesautels.function.CheckedSupplier;
+import io.github.cwdesautels.monad.Try;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * File backed memoization of expensive try computations.
+ * <p>
+ * Records are appended to a single data file, located through an in memory index and read back through a read only
+ * memory mapping. The mapping is only replaced when a record ends past it, and then covers everything written so far
+ * since a read only mapping cannot extend past the end of the file. The data file is compacted on open, keeping only the latest
+ * record per key and dropping any torn trailing write.
+ */
+public final class MemoStore<T> implements Closeable {
+    private static final String DATA_FILE = "memo.dat";
+    private static final String COMPACT_FILE = "memo.dat.compact";
+    private static final byte SUCCESS = 0;
+    private static final byte FAILURE = 1;
+    private static final int HEADER_BYTES = Integer.BYTES + Byte.BYTES + Integer.BYTES;
+
+    private final Map<String, Long> index;
+    private final FileChannel channel;
+    private final Codec<T> codec;
+    private final Codec<Throwable> failureCodec;
+    private volatile MappedByteBuffer mapped;
+    private long end;
+
+    private MemoStore(Map<String, Long> index,
+                      FileChannel channel,
+                      Codec<T> codec,
+                      @Nullable Codec<Throwable> failureCodec) throws IOException {
+        this.index = index;
+        this.channel = channel;
+        this.codec = codec;
+        this.failureCodec = failureCodec;
+        this.end = channel.size();
+    }
+
+    // Constructors
+
+    public static <T> MemoStore<T> open(Path directory, Codec<T> codec) throws IOException {
+        Objects.requireNonNull(directory);
+        Objects.requireNonNull(codec);
+
+        return open(directory, codec, null);
+    }
+
+    public static <T> MemoStore<T> open(Path directory,
+                                        Codec<T> codec,
+                                        @Nullable Codec<Throwable> failureCodec) throws IOException {
+        Objects.requireNonNull(directory);
+        Objects.requireNonNull(codec);
+
+        Files.createDirectories(directory);
+
+        final Path data = directory.resolve(DATA_FILE);
+        final Map<String, Long> index = compact(data, directory.resolve(COMPACT_FILE), failureCodec != null);
+        final FileChannel channel = FileChannel.open(data,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+
+        return new MemoStore<>(index, channel, codec, failureCodec);
+    }
+
+    // Behaviour
+
+    public Try<T> get(String key, CheckedSupplier<T> supplier) {
+        Objects.requireNonNull(key);
+        Objects.requireNonNull(supplier);
+
+        final Long position = index.get(key);
+
+        if (position != null) {
+            final Try<Try<T>> cached = Try.of(() -> read(position));
+
+            if (cached.isSuccess()) {
+                return cached.get();
+            }
+        }
+
+        final Try<T> computed = Try.of(supplier);
+
+        if (computed.isSuccess() || failureCodec != null) {
+            Try.ofRunnable(() -> write(key, computed));
+        }
+
+        return computed;
+    }
+
+    public boolean contains(String key) {
+        Objects.requireNonNull(key);
+
+        return index.containsKey(key);
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        channel.close();
+    }
+
+    // Internals
+
+    private Try<T> read(long position) throws Exception {
+        final int start = Math.toIntExact(position);
+        final int header = start + Integer.BYTES + view(start + Integer.BYTES).getInt(start);
+        final ByteBuffer view = view(header + Byte.BYTES + Integer.BYTES);
+        final byte kind = view.get(header);
+        final byte[] payload = new byte[view.getInt(header + Byte.BYTES)];
+
+        view(header + Byte.BYTES + Integer.BYTES + payload.length)
+                .position(header + Byte.BYTES + Integer.BYTES)
+                .get(payload);
+
+        if (kind == SUCCESS) {
+            return Try.success(codec.decode(payload));
+        } else if (kind == FAILURE && failureCodec != null) {
+            return Try.failure(failureCodec.decode(payload));
+        } else {
+            throw new IOException("Unreadable memo record at " + position);
+        }
+    }
+
+    private ByteBuffer view(long recordEnd) throws IOException {
+        final MappedByteBuffer current = mapped;
+
+        if (current != null && recordEnd <= current.capacity()) {
+            return current.duplicate();
+        }
+
+        return remap(recordEnd);
+    }
+
+    private synchronized ByteBuffer remap(long recordEnd) throws IOException {
+        if (mapped == null || mapped.capacity() < recordEnd) {
+            if (recordEnd > end) {
+                throw new IOException("Memo record ends past the data file: " + recordEnd);
+            } else if (end > Integer.MAX_VALUE) {
+                throw new IOException("Memo data file exceeds 2GB");
+            }
+
+            mapped = channel.map(FileChannel.MapMode.READ_ONLY, 0, end);
+        }
+
+        return mapped.duplicate();
+    }
+
+    private void write(String key, Try<T> value) throws Exception {
+        final byte[] payload = value.isSuccess()
+                ? codec.encode(value.get())
+                : failureCodec.encode(value.getCause());
+        final byte kind = value.isSuccess() ? SUCCESS : FAILURE;
+        final ByteBuffer record = encode(key.getBytes(StandardCharsets.UTF_8), kind, payload);
+
+        synchronized (this) {
+            final long position = end;
+
+            while (record.hasRemaining()) {
+                channel.write(record, position + record.position());
+            }
+
+            end = position + record.limit();
+            index.put(key, position);
+        }
+    }
+
+    private static ByteBuffer encode(byte[] key, byte kind, byte[] payload) {
+        return ByteBuffer.allocate(HEADER_BYTES + key.length + payload.length)
+                .putInt(key.length)
+                .put(key)
+                .put(kind)
+                .putInt(payload.length)
+                .put(payload)
+                .flip();
+    }
+
+    private static Map<String, Long> compact(Path data, Path scratch, boolean keepFailures) throws IOException {
+        final Map<String, Long> index = new ConcurrentHashMap<>();
+
+        if (Files.notExists(data)) {
+            return index;
+        }
+
+        final Map<String, int[]> latest = new HashMap<>();
+        final MappedByteBuffer buffer;
+        int records = 0;
+
+        try (FileChannel in = FileChannel.open(data, StandardOpenOption.READ)) {
+            if (in.size() > Integer.MAX_VALUE) {
+                throw new IOException("Memo data file exceeds 2GB: " + data);
+            }
+
+            buffer = in.map(FileChannel.MapMode.READ_ONLY, 0, in.size());
+        }
+
+        while (buffer.remaining() >= HEADER_BYTES) {
+            final int start = buffer.position();
+            final int keyLength = buffer.getInt();
+
+            if (keyLength < 0 || buffer.remaining() < keyLength + Byte.BYTES + Integer.BYTES) {
+                buffer.position(start);
+                break;
+            }
+
+            final byte[] key = new byte[keyLength];
+            buffer.get(key);
+
+            final byte kind = buffer.get();
+            final int payloadLength = buffer.getInt();
+
+            if (payloadLength < 0 || buffer.remaining() < payloadLength) {
+                buffer.position(start);
+                break;
+            }
+
+            buffer.position(buffer.position() + payloadLength);
+            records++;
+
+            if (kind == SUCCESS || kind == FAILURE && keepFailures) {
+                latest.put(new String(key, StandardCharsets.UTF_8), new int[]{start, buffer.position()});
+            } else {
+                latest.remove(new String(key, StandardCharsets.UTF_8));
+            }
+        }
+
+        if (!buffer.hasRemaining() && latest.size() == records) {
+            latest.forEach((key, slice) -> index.put(key, (long) slice[0]));
+
+            return index;
+        }
+
+        try (FileChannel out = FileChannel.open(scratch,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE)) {
+            long position = 0;
+
+            for (Map.Entry<String, int[]> entry : latest.entrySet()) {
+                final int[] slice = entry.getValue();
+                final ByteBuffer record = buffer.duplicate()
+                        .position(slice[0])
+                        .limit(slice[1]);
+
+                index.put(entry.getKey(), position);
+
+                while (record.hasRemaining()) {
+                    position += out.write(record, position);
+                }
+            }
+
+            out.force(true);
+        }
+
+        Files.move(scratch, data, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+
+        return index;
+    }
+}
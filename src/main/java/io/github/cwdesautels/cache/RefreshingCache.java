@@ -0,0 +1,244 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.cache;
+
+import io.github.cwdesautels.annotation.Nullable;
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.monad.Try;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Loading cache that refreshes entries ahead of expiry and rides out failing refreshes.
+ * <p>
+ * Entries older than the refresh interval are reloaded on the executor while the current value keeps being served.
+ * A failed refresh leaves the last success in place and is retried no sooner than the retry interval, until the
+ * entry exceeds the maximum staleness, after which lookups load synchronously and surface the failure. Concurrent
+ * synchronous loads of a key share a single loader call.
+ */
+public final class RefreshingCache<K, V> {
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, CompletableFuture<Try<Cached<V>>>> loading = new ConcurrentHashMap<>();
+    private final CheckedFunction<K, V> loader;
+    private final Executor executor;
+    private final long refreshNanos;
+    private final long maxStalenessNanos;
+    private final long retryNanos;
+
+    private RefreshingCache(Builder<K, V> builder) {
+        this.loader = builder.loader;
+        this.executor = builder.executor;
+        this.refreshNanos = builder.refreshAfter.toNanos();
+        this.maxStalenessNanos = builder.maxStaleness.toNanos();
+        this.retryNanos = builder.retryAfter.toNanos();
+    }
+
+    // Constructors
+
+    public static <K, V> Builder<K, V> builder(CheckedFunction<K, V> loader, Executor executor) {
+        return new Builder<>(loader, executor);
+    }
+
+    // Behaviour
+
+    public Try<Cached<V>> get(K key) {
+        Objects.requireNonNull(key);
+
+        final Entry<V> entry = entries.get(key);
+
+        if (isFresh(entry)) {
+            return serve(key, entry);
+        } else {
+            return load(key, entry);
+        }
+    }
+
+    public void invalidate(K key) {
+        Objects.requireNonNull(key);
+
+        entries.remove(key);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    // Internals
+
+    private boolean isFresh(@Nullable Entry<V> entry) {
+        return entry != null && System.nanoTime() - entry.loadedNanos < maxStalenessNanos;
+    }
+
+    private Try<Cached<V>> serve(K key, Entry<V> entry) {
+        final long now = System.nanoTime();
+        final long age = now - entry.loadedNanos;
+
+        if (now - entry.nextRefreshNanos >= 0 && entry.refreshing.compareAndSet(false, true)) {
+            refresh(key, entry);
+        }
+
+        return Try.success(Cached.of(entry.value, Duration.ofNanos(age), age >= refreshNanos));
+    }
+
+    private Try<Cached<V>> load(K key, @Nullable Entry<V> expired) {
+        final CompletableFuture<Try<Cached<V>>> load = new CompletableFuture<>();
+        final CompletableFuture<Try<Cached<V>>> inFlight = loading.putIfAbsent(key, load);
+
+        if (inFlight != null) {
+            return inFlight.join();
+        }
+
+        try {
+            final Entry<V> current = entries.get(key);
+            final Try<Cached<V>> result = current != expired && isFresh(current)
+                    ? serve(key, current)
+                    : reload(key, expired);
+
+            load.complete(result);
+
+            return result;
+        } catch (RuntimeException | Error e) {
+            load.completeExceptionally(e);
+
+            throw e;
+        } finally {
+            loading.remove(key, load);
+        }
+    }
+
+    private Try<Cached<V>> reload(K key, @Nullable Entry<V> expired) {
+        final Try<V> loaded = Try.of(() -> Objects.requireNonNull(loader.apply(key)));
+
+        if (loaded.isSuccess()) {
+            entries.put(key, new Entry<>(loaded.get(), refreshNanos));
+
+            return Try.success(Cached.of(loaded.get(), Duration.ZERO, false));
+        } else {
+            if (expired != null) {
+                entries.remove(key, expired);
+            }
+
+            return Try.failure(loaded.getCause());
+        }
+    }
+
+    private void refresh(K key, Entry<V> entry) {
+        try {
+            executor.execute(() -> {
+                final Try<V> loaded = Try.of(() -> Objects.requireNonNull(loader.apply(key)));
+
+                if (loaded.isSuccess()) {
+                    entries.replace(key, entry, new Entry<>(loaded.get(), refreshNanos));
+                } else {
+                    backOff(entry);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            backOff(entry);
+        }
+    }
+
+    private void backOff(Entry<V> entry) {
+        entry.nextRefreshNanos = System.nanoTime() + retryNanos;
+        entry.refreshing.set(false);
+    }
+
+    private static final class Entry<V> {
+        private final AtomicBoolean refreshing = new AtomicBoolean();
+        private final V value;
+        private final long loadedNanos;
+        private volatile long nextRefreshNanos;
+
+        private Entry(V value, long refreshNanos) {
+            this.value = value;
+            this.loadedNanos = System.nanoTime();
+            this.nextRefreshNanos = loadedNanos + refreshNanos;
+        }
+    }
+
+    public static final class Builder<K, V> {
+        private final CheckedFunction<K, V> loader;
+        private final Executor executor;
+        private Duration refreshAfter = Duration.ofMinutes(1);
+        private Duration maxStaleness = Duration.ofMinutes(10);
+        private Duration retryAfter = Duration.ofSeconds(10);
+
+        private Builder(CheckedFunction<K, V> loader, Executor executor) {
+            this.loader = Objects.requireNonNull(loader);
+            this.executor = Objects.requireNonNull(executor);
+        }
+
+        public Builder<K, V> refreshAfter(Duration refreshAfter) {
+            Objects.requireNonNull(refreshAfter);
+
+            if (refreshAfter.isNegative()) {
+                throw new IllegalArgumentException("refreshAfter must not be negative: " + refreshAfter);
+            }
+
+            this.refreshAfter = refreshAfter;
+
+            return this;
+        }
+
+        public Builder<K, V> maxStaleness(Duration maxStaleness) {
+            Objects.requireNonNull(maxStaleness);
+
+            if (maxStaleness.isNegative()) {
+                throw new IllegalArgumentException("maxStaleness must not be negative: " + maxStaleness);
+            }
+
+            this.maxStaleness = maxStaleness;
+
+            return this;
+        }
+
+        public Builder<K, V> retryAfter(Duration retryAfter) {
+            Objects.requireNonNull(retryAfter);
+
+            if (retryAfter.isNegative()) {
+                throw new IllegalArgumentException("retryAfter must not be negative: " + retryAfter);
+            }
+
+            this.retryAfter = retryAfter;
+
+            return this;
+        }
+
+        public RefreshingCache<K, V> build() {
+            if (maxStaleness.compareTo(refreshAfter) < 0) {
+                throw new IllegalArgumentException("maxStaleness must not be shorter than refreshAfter: " + maxStaleness);
+            }
+
+            return new RefreshingCache<>(this);
+        }
+    }
+}
@@ -0,0 +1,184 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.monad.Try;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Coalesces individual key lookups into bulk calls, dispatched by batch size or time window.
+ * <p>
+ * Keys requested while a batch is open share a single result, keys absent from the bulk result complete with a
+ * {@link NoSuchElementException} and a failed bulk call fails every key in its batch.
+ * <p>
+ * The scheduler only times windows, bulk calls run on the executor so a slow call never delays another window.
+ */
+public final class BatchLoader<K, V> {
+    private final CheckedFunction<List<K>, Map<K, V>> function;
+    private final ScheduledExecutorService scheduler;
+    private final Executor executor;
+    private final int maxBatchSize;
+    private final long windowNanos;
+
+    private Map<K, CompletableFuture<Try<V>>> batch = new LinkedHashMap<>();
+    private ScheduledFuture<?> timer;
+
+    private BatchLoader(CheckedFunction<List<K>, Map<K, V>> function,
+                        ScheduledExecutorService scheduler,
+                        Executor executor,
+                        int maxBatchSize,
+                        Duration window) {
+        if (maxBatchSize < 1) {
+            throw new IllegalArgumentException("maxBatchSize must be positive: " + maxBatchSize);
+        }
+
+        this.function = Objects.requireNonNull(function);
+        this.scheduler = Objects.requireNonNull(scheduler);
+        this.executor = Objects.requireNonNull(executor);
+        this.maxBatchSize = maxBatchSize;
+        this.windowNanos = Objects.requireNonNull(window).toNanos();
+    }
+
+    // Constructors
+
+    public static <K, V> BatchLoader<K, V> of(CheckedFunction<List<K>, Map<K, V>> function,
+                                              ScheduledExecutorService scheduler,
+                                              Executor executor,
+                                              int maxBatchSize,
+                                              Duration window) {
+        return new BatchLoader<>(function, scheduler, executor, maxBatchSize, window);
+    }
+
+    // Behaviour
+
+    public CompletableFuture<Try<V>> loadAsync(K key) {
+        Objects.requireNonNull(key);
+
+        final CompletableFuture<Try<V>> future;
+        Map<K, CompletableFuture<Try<V>>> full = null;
+
+        synchronized (this) {
+            future = batch.computeIfAbsent(key, k -> new CompletableFuture<>());
+
+            if (batch.size() >= maxBatchSize) {
+                full = detach();
+            } else if (timer == null) {
+                try {
+                    timer = scheduler.schedule(this::dispatch, windowNanos, TimeUnit.NANOSECONDS);
+                } catch (RejectedExecutionException e) {
+                    fail(detach(), e);
+                }
+            }
+        }
+
+        if (full != null) {
+            submit(full);
+        }
+
+        return future;
+    }
+
+    public Try<V> load(K key) {
+        return loadAsync(key).join();
+    }
+
+    public void dispatch() {
+        final Map<K, CompletableFuture<Try<V>>> pending;
+
+        synchronized (this) {
+            pending = detach();
+        }
+
+        if (!pending.isEmpty()) {
+            submit(pending);
+        }
+    }
+
+    // Internals
+
+    private Map<K, CompletableFuture<Try<V>>> detach() {
+        final Map<K, CompletableFuture<Try<V>>> pending = batch;
+
+        batch = new LinkedHashMap<>();
+
+        if (timer != null) {
+            timer.cancel(false);
+            timer = null;
+        }
+
+        return pending;
+    }
+
+    private void submit(Map<K, CompletableFuture<Try<V>>> pending) {
+        try {
+            executor.execute(() -> execute(pending));
+        } catch (RejectedExecutionException e) {
+            fail(pending, e);
+        }
+    }
+
+    private void execute(Map<K, CompletableFuture<Try<V>>> pending) {
+        Try<Map<K, V>> values;
+
+        try {
+            values = Try.of(() -> function.apply(new ArrayList<>(pending.keySet())))
+                    .map(Objects::requireNonNull);
+        } catch (Throwable t) {
+            values = Try.failure(t);
+        }
+
+        if (values.isFailure()) {
+            fail(pending, values.getCause());
+        } else {
+            final Map<K, V> map = values.get();
+
+            pending.forEach((key, future) -> {
+                if (map.containsKey(key)) {
+                    future.complete(Try.success(map.get(key)));
+                } else {
+                    future.complete(Try.failure(new NoSuchElementException("No value loaded for key: " + key)));
+                }
+            });
+        }
+    }
+
+    private void fail(Map<K, CompletableFuture<Try<V>>> pending, Throwable cause) {
+        pending.values().forEach(future -> future.complete(Try.failure(cause)));
+    }
+}
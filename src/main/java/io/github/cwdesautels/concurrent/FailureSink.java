@@ -0,0 +1,262 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Asynchronous sink taking failure handling off the calling thread.
+ * <p>
+ * Producers publish into a bounded lock free ring buffer and never block; a failure offered while the buffer is full
+ * is dropped and counted, as is a null failure. A single background thread drains the buffer in batches into the
+ * handler. Usable directly as the consumer of {@code ifFailure} or {@code ifLeft}.
+ * <p>
+ * On close the drainer seals the buffer once it is empty, so a failure accepted concurrently with close is either
+ * handed to the handler or counted as dropped, never lost.
+ */
+public final class FailureSink<E> implements Consumer<E>, AutoCloseable {
+    private static final long SEALED = Long.MIN_VALUE;
+
+    private final AtomicReferenceArray<E> buffer;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    private final LongAdder dropped = new LongAdder();
+    private final LongAdder sampledOut = new LongAdder();
+    private final Consumer<List<E>> handler;
+    private final int mask;
+    private final int batchSize;
+    private final int sampleOneIn;
+    private final Thread drainer;
+    private volatile boolean sleeping;
+    private volatile boolean closed;
+    private long head;
+
+    private FailureSink(Builder<E> builder) {
+        final int capacity = Integer.highestOneBit(builder.capacity - 1) << 1;
+
+        this.buffer = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        this.handler = builder.handler;
+        this.mask = capacity - 1;
+        this.batchSize = builder.batchSize;
+        this.sampleOneIn = builder.sampleOneIn;
+        this.drainer = new Thread(this::drain, builder.threadName);
+
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+
+        drainer.setDaemon(true);
+        drainer.start();
+    }
+
+    // Constructors
+
+    public static <E> Builder<E> builder(Consumer<List<E>> handler) {
+        return new Builder<>(handler);
+    }
+
+    // Behaviour
+
+    @Override
+    public void accept(E failure) {
+        if (failure == null) {
+            dropped.increment();
+        } else if (sampleOneIn > 1 && ThreadLocalRandom.current().nextInt(sampleOneIn) != 0) {
+            sampledOut.increment();
+        } else if (closed || !offer(failure)) {
+            dropped.increment();
+        } else if (sleeping) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    public long dropped() {
+        return dropped.sum();
+    }
+
+    public long sampledOut() {
+        return sampledOut.sum();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(drainer);
+
+        try {
+            drainer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Internals
+
+    private boolean offer(E failure) {
+        long position = tail.get();
+
+        while (true) {
+            if (position < 0) {
+                return false;
+            }
+
+            final int index = (int) position & mask;
+            final long difference = sequences.get(index) - position;
+
+            if (difference == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    buffer.set(index, failure);
+                    sequences.set(index, position + 1);
+
+                    return true;
+                }
+
+                position = tail.get();
+            } else if (difference < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    private E poll() {
+        final int index = (int) head & mask;
+
+        if (sequences.get(index) != head + 1) {
+            return null;
+        }
+
+        final E failure = buffer.get(index);
+
+        buffer.set(index, null);
+        sequences.set(index, head + mask + 1);
+        head++;
+
+        return failure;
+    }
+
+    private void drain() {
+        List<E> batch = new ArrayList<>(batchSize);
+
+        while (true) {
+            for (E failure = poll(); failure != null; failure = poll()) {
+                batch.add(failure);
+
+                if (batch.size() == batchSize) {
+                    batch = publish(batch);
+                }
+            }
+
+            if (!batch.isEmpty()) {
+                batch = publish(batch);
+            } else if (closed) {
+                if (tail.compareAndSet(head, SEALED)) {
+                    return;
+                }
+            } else {
+                sleeping = true;
+
+                if (sequences.get((int) head & mask) != head + 1 && !closed) {
+                    LockSupport.park(this);
+                }
+
+                sleeping = false;
+            }
+        }
+    }
+
+    private List<E> publish(List<E> batch) {
+        try {
+            handler.accept(batch);
+        } catch (RuntimeException e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+
+        return new ArrayList<>(batchSize);
+    }
+
+    public static final class Builder<E> {
+        private final Consumer<List<E>> handler;
+        private int capacity = 1024;
+        private int batchSize = 64;
+        private int sampleOneIn = 1;
+        private String threadName = "failure-sink";
+
+        private Builder(Consumer<List<E>> handler) {
+            this.handler = Objects.requireNonNull(handler);
+        }
+
+        public Builder<E> capacity(int capacity) {
+            if (capacity < 2) {
+                throw new IllegalArgumentException("capacity must be at least 2: " + capacity);
+            }
+
+            this.capacity = capacity;
+
+            return this;
+        }
+
+        public Builder<E> batchSize(int batchSize) {
+            if (batchSize < 1) {
+                throw new IllegalArgumentException("batchSize must be positive: " + batchSize);
+            }
+
+            this.batchSize = batchSize;
+
+            return this;
+        }
+
+        public Builder<E> sampleOneIn(int sampleOneIn) {
+            if (sampleOneIn < 1) {
+                throw new IllegalArgumentException("sampleOneIn must be positive: " + sampleOneIn);
+            }
+
+            this.sampleOneIn = sampleOneIn;
+
+            return this;
+        }
+
+        public Builder<E> threadName(String threadName) {
+            this.threadName = Objects.requireNonNull(threadName);
+
+            return this;
+        }
+
+        public FailureSink<E> build() {
+            return new FailureSink<>(this);
+        }
+    }
+}
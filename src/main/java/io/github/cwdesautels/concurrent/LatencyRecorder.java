@@ -0,0 +1,101 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.function.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Sliding window of observed latencies, used to derive hedging delays from a percentile.
+ */
+public final class LatencyRecorder {
+    private final AtomicLongArray samples;
+    private final AtomicLong count = new AtomicLong();
+    private final Duration fallback;
+
+    private LatencyRecorder(int window, Duration fallback) {
+        if (window < 1) {
+            throw new IllegalArgumentException("window must be positive: " + window);
+        }
+
+        this.samples = new AtomicLongArray(window);
+        this.fallback = Objects.requireNonNull(fallback);
+    }
+
+    // Constructors
+
+    public static LatencyRecorder of(int window, Duration fallback) {
+        return new LatencyRecorder(window, fallback);
+    }
+
+    // Behaviour
+
+    public <T> CheckedSupplier<T> record(CheckedSupplier<T> supplier) {
+        Objects.requireNonNull(supplier);
+
+        return () -> {
+            final long start = System.nanoTime();
+
+            try {
+                return supplier.get();
+            } finally {
+                record(Duration.ofNanos(System.nanoTime() - start));
+            }
+        };
+    }
+
+    public void record(Duration latency) {
+        Objects.requireNonNull(latency);
+
+        samples.set((int) (count.getAndIncrement() % samples.length()), latency.toNanos());
+    }
+
+    public Duration percentile(double percentile) {
+        if (percentile < 0 || percentile > 1) {
+            throw new IllegalArgumentException("percentile must be within [0, 1]: " + percentile);
+        }
+
+        final int size = (int) Math.min(count.get(), samples.length());
+
+        if (size == 0) {
+            return fallback;
+        }
+
+        final long[] sorted = new long[size];
+
+        for (int i = 0; i < size; i++) {
+            sorted[i] = samples.get(i);
+        }
+
+        Arrays.sort(sorted);
+
+        return Duration.ofNanos(sorted[(int) Math.ceil(percentile * size) - (percentile > 0 ? 1 : 0)]);
+    }
+}
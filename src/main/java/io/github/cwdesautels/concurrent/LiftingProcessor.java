@@ -0,0 +1,311 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Flow;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * Flow processor lifting each item through a checked function, emitting failures as values.
+ * <p>
+ * At most {@code parallelism} items are requested from upstream and held in flight, upstream demand is replenished
+ * in batches of half that window, and results are only emitted against downstream demand.
+ */
+public final class LiftingProcessor<T, R, O> implements Flow.Processor<T, O> {
+    private final CheckedFunction<T, R> function;
+    private final Function<Try<R>, O> lift;
+    private final Executor executor;
+    private final int parallelism;
+    private final int limit;
+    private final boolean ordered;
+
+    private final Queue<Slot<O>> slots = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger wip = new AtomicInteger();
+    private final AtomicLong requested = new AtomicLong();
+    private final AtomicBoolean started = new AtomicBoolean();
+
+    private volatile Flow.Subscription upstream;
+    private volatile Flow.Subscriber<? super O> downstream;
+    private volatile boolean done;
+    private volatile boolean cancelled;
+    private volatile boolean rejected;
+    private volatile Throwable error;
+    private boolean terminated;
+    private int consumed;
+
+    private LiftingProcessor(CheckedFunction<T, R> function,
+                             Function<Try<R>, O> lift,
+                             Executor executor,
+                             int parallelism,
+                             boolean ordered) {
+        if (parallelism < 1) {
+            throw new IllegalArgumentException("parallelism must be positive: " + parallelism);
+        }
+
+        this.function = Objects.requireNonNull(function);
+        this.lift = lift;
+        this.executor = Objects.requireNonNull(executor);
+        this.parallelism = parallelism;
+        this.limit = parallelism - (parallelism >> 1);
+        this.ordered = ordered;
+    }
+
+    // Constructors
+
+    public static <T, R> LiftingProcessor<T, R, Try<R>> ofTry(CheckedFunction<T, R> function,
+                                                               Executor executor,
+                                                               int parallelism,
+                                                               boolean ordered) {
+        return new LiftingProcessor<>(function, Function.identity(), executor, parallelism, ordered);
+    }
+
+    public static <T, R> LiftingProcessor<T, R, Either<Throwable, R>> ofEither(CheckedFunction<T, R> function,
+                                                                                Executor executor,
+                                                                                int parallelism,
+                                                                                boolean ordered) {
+        return new LiftingProcessor<>(function, Try::toEither, executor, parallelism, ordered);
+    }
+
+    // Behaviour
+
+    @Override
+    public void subscribe(Flow.Subscriber<? super O> subscriber) {
+        Objects.requireNonNull(subscriber);
+
+        synchronized (this) {
+            if (downstream != null) {
+                subscriber.onSubscribe(new Flow.Subscription() {
+                    @Override
+                    public void request(long n) {
+                    }
+
+                    @Override
+                    public void cancel() {
+                    }
+                });
+                subscriber.onError(new IllegalStateException("LiftingProcessor supports a single subscriber"));
+
+                return;
+            }
+
+            downstream = subscriber;
+        }
+
+        subscriber.onSubscribe(new Downstream());
+        start();
+        drain();
+    }
+
+    @Override
+    public void onSubscribe(Flow.Subscription subscription) {
+        Objects.requireNonNull(subscription);
+
+        if (upstream != null) {
+            subscription.cancel();
+
+            return;
+        }
+
+        upstream = subscription;
+        start();
+    }
+
+    @Override
+    public void onNext(T item) {
+        Objects.requireNonNull(item);
+
+        if (cancelled || rejected) {
+            return;
+        }
+
+        final Slot<O> slot = new Slot<>();
+
+        active.incrementAndGet();
+
+        if (ordered) {
+            slots.offer(slot);
+        }
+
+        try {
+            executor.execute(() -> complete(slot, evaluate(item)));
+        } catch (RejectedExecutionException e) {
+            complete(slot, lift.apply(Try.failure(e)));
+        }
+    }
+
+    @Override
+    public void onError(Throwable throwable) {
+        Objects.requireNonNull(throwable);
+
+        error = throwable;
+        done = true;
+        drain();
+    }
+
+    @Override
+    public void onComplete() {
+        done = true;
+        drain();
+    }
+
+    // Internals
+
+    private void start() {
+        if (upstream != null && downstream != null && started.compareAndSet(false, true)) {
+            upstream.request(parallelism);
+        }
+    }
+
+    private O evaluate(T item) {
+        Try<R> result;
+
+        try {
+            result = Try.of(() -> function.apply(item));
+        } catch (Throwable t) {
+            result = Try.failure(t);
+        }
+
+        return lift.apply(result);
+    }
+
+    private void complete(Slot<O> slot, O value) {
+        slot.value = value;
+
+        if (!ordered) {
+            slots.offer(slot);
+        }
+
+        drain();
+    }
+
+    private void drain() {
+        if (wip.getAndIncrement() != 0) {
+            return;
+        }
+
+        int missed = 1;
+
+        do {
+            final Flow.Subscriber<? super O> subscriber = downstream;
+
+            if (subscriber != null && !terminated && rejected) {
+                terminated = true;
+                slots.clear();
+                subscriber.onError(error);
+            } else if (subscriber != null && !terminated) {
+                final long demand = requested.get();
+                long emitted = 0;
+
+                while (emitted != demand && !cancelled) {
+                    final Slot<O> slot = slots.peek();
+
+                    if (slot == null || slot.value == null) {
+                        break;
+                    }
+
+                    slots.poll();
+                    active.decrementAndGet();
+                    subscriber.onNext(slot.value);
+                    emitted++;
+
+                    if (++consumed == limit) {
+                        consumed = 0;
+                        upstream.request(limit);
+                    }
+                }
+
+                if (emitted != 0 && demand != Long.MAX_VALUE) {
+                    requested.addAndGet(-emitted);
+                }
+
+                if (cancelled) {
+                    terminated = true;
+                    slots.clear();
+                } else if (done && active.get() == 0) {
+                    terminated = true;
+
+                    if (error != null) {
+                        subscriber.onError(error);
+                    } else {
+                        subscriber.onComplete();
+                    }
+                }
+            }
+
+            missed = wip.addAndGet(-missed);
+        } while (missed != 0);
+    }
+
+    private void cancelUpstream() {
+        final Flow.Subscription subscription = upstream;
+
+        if (subscription != null) {
+            subscription.cancel();
+        }
+    }
+
+    private static final class Slot<O> {
+        private volatile O value;
+    }
+
+    private final class Downstream implements Flow.Subscription {
+        @Override
+        public void request(long n) {
+            if (n <= 0) {
+                error = new IllegalArgumentException("non-positive subscription request: " + n);
+                rejected = true;
+                cancelUpstream();
+            } else {
+                requested.getAndAccumulate(n, (current, add) -> {
+                    final long sum = current + add;
+
+                    return sum < 0 ? Long.MAX_VALUE : sum;
+                });
+            }
+
+            drain();
+        }
+
+        @Override
+        public void cancel() {
+            cancelled = true;
+            cancelUpstream();
+            drain();
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.function.CheckedSupplier;
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Lock free token bucket guarding checked suppliers.
+ * <p>
+ * The whole bucket is a single nanosecond timestamp, the theoretical arrival time of the next permit, advanced by
+ * compare and set. A permit is granted while that timestamp is no further ahead of now than the burst allows.
+ */
+public final class RateLimiter {
+    private final AtomicLong arrival;
+    private final long intervalNanos;
+    private final long burstNanos;
+
+    private RateLimiter(long intervalNanos, int burst) {
+        this.intervalNanos = intervalNanos;
+        this.burstNanos = intervalNanos * burst;
+        this.arrival = new AtomicLong(System.nanoTime());
+    }
+
+    // Constructors
+
+    public static RateLimiter of(double permitsPerSecond, int burst) {
+        if (!(permitsPerSecond > 0)) {
+            throw new IllegalArgumentException("permitsPerSecond must be positive: " + permitsPerSecond);
+        }
+
+        if (burst < 1) {
+            throw new IllegalArgumentException("burst must be positive: " + burst);
+        }
+
+        return new RateLimiter(Math.max(1, (long) (TimeUnit.SECONDS.toNanos(1) / permitsPerSecond)), burst);
+    }
+
+    // Behaviour
+
+    public <T> Either<RateLimited, Try<T>> call(CheckedSupplier<T> supplier) {
+        return call(supplier, Duration.ZERO);
+    }
+
+    public <T> Either<RateLimited, Try<T>> call(CheckedSupplier<T> supplier, Duration timeout) {
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(timeout);
+
+        final long wait = reserve(Math.max(0, timeout.toNanos()));
+
+        if (wait < 0) {
+            return Either.left(RateLimited.of(Duration.ofNanos(-wait)));
+        }
+
+        if (wait > 0 && !sleep(wait)) {
+            Thread.currentThread().interrupt();
+
+            return Either.right(Try.failure(new InterruptedException()));
+        }
+
+        return Either.right(Try.of(supplier));
+    }
+
+    // Internals
+
+    /**
+     * Reserves a permit when it is available within the timeout.
+     *
+     * @return nanoseconds to wait before using the permit, or the negated nanoseconds until one is available
+     */
+    private long reserve(long timeoutNanos) {
+        while (true) {
+            final long now = System.nanoTime();
+            final long current = arrival.get();
+            final long next = Math.max(current, now) + intervalNanos;
+            final long wait = next - now - burstNanos;
+
+            if (wait > timeoutNanos) {
+                return -wait;
+            }
+
+            if (arrival.compareAndSet(current, next)) {
+                return Math.max(0, wait);
+            }
+        }
+    }
+
+    private static boolean sleep(long nanos) {
+        final long deadline = System.nanoTime() + nanos;
+
+        for (long remaining = nanos; remaining > 0; remaining = deadline - System.nanoTime()) {
+            LockSupport.parkNanos(remaining);
+
+            if (Thread.interrupted()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+}
@@ -0,0 +1,235 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.annotation.Nullable;
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.function.CheckedSupplier;
+import io.github.cwdesautels.monad.Deadline;
+import io.github.cwdesautels.monad.DeadlineExceededException;
+import io.github.cwdesautels.monad.Try;
+
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * Lock free pool of closeable resources reused across try evaluations.
+ * <p>
+ * Checkout never blocks: when no valid idle resource exists a new one is created, unless {@code maxTotal} resources
+ * are already open in which case checkout fails straight away. At most {@code maxIdle} resources are retained on
+ * return, and a resource whose use produced a failure is closed instead of returned. Validation and closing run
+ * outside any {@link Deadline}, so an expired budget skips the function but never leaks a resource.
+ */
+public final class ResourcePool<R extends AutoCloseable> implements AutoCloseable {
+    private final Queue<R> idle = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger idleCount = new AtomicInteger();
+    private final AtomicInteger totalCount = new AtomicInteger();
+    private final CheckedSupplier<R> factory;
+    private final Predicate<R> validator;
+    private final int maxIdle;
+    private final int maxTotal;
+    private volatile boolean closed;
+
+    private ResourcePool(CheckedSupplier<R> factory, Predicate<R> validator, int maxIdle, int maxTotal) {
+        if (maxIdle < 0) {
+            throw new IllegalArgumentException("maxIdle must not be negative: " + maxIdle);
+        }
+
+        if (maxTotal < 1) {
+            throw new IllegalArgumentException("maxTotal must be positive: " + maxTotal);
+        }
+
+        if (maxIdle > maxTotal) {
+            throw new IllegalArgumentException("maxIdle must not exceed maxTotal: " + maxIdle + " > " + maxTotal);
+        }
+
+        this.factory = Objects.requireNonNull(factory);
+        this.validator = Objects.requireNonNull(validator);
+        this.maxIdle = maxIdle;
+        this.maxTotal = maxTotal;
+    }
+
+    // Constructors
+
+    public static <R extends AutoCloseable> ResourcePool<R> of(CheckedSupplier<R> factory, int maxIdle) {
+        return of(factory, maxIdle, Integer.MAX_VALUE);
+    }
+
+    public static <R extends AutoCloseable> ResourcePool<R> of(CheckedSupplier<R> factory, int maxIdle, int maxTotal) {
+        return of(factory, resource -> true, maxIdle, maxTotal);
+    }
+
+    public static <R extends AutoCloseable> ResourcePool<R> of(CheckedSupplier<R> factory,
+                                                               Predicate<R> validator,
+                                                               int maxIdle) {
+        return of(factory, validator, maxIdle, Integer.MAX_VALUE);
+    }
+
+    public static <R extends AutoCloseable> ResourcePool<R> of(CheckedSupplier<R> factory,
+                                                               Predicate<R> validator,
+                                                               int maxIdle,
+                                                               int maxTotal) {
+        return new ResourcePool<>(factory, validator, maxIdle, maxTotal);
+    }
+
+    // Behaviour
+
+    public <T> Try<T> using(CheckedFunction<R, T> function) {
+        Objects.requireNonNull(function);
+
+        final Try<R> resource = acquire();
+
+        if (resource.isFailure()) {
+            return Try.failure(resource.getCause());
+        }
+
+        final Try<T> result = Try.of(() -> function.apply(resource.get()));
+
+        if (result.isSuccess() || result.getCause() instanceof DeadlineExceededException) {
+            release(resource.get());
+        } else {
+            discard(resource.get(), result.getCause());
+        }
+
+        return result;
+    }
+
+    public int idle() {
+        return idleCount.get();
+    }
+
+    public int total() {
+        return totalCount.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        drain();
+    }
+
+    // Internals
+
+    private Try<R> acquire() {
+        if (closed) {
+            return Try.failure(new IllegalStateException("ResourcePool is closed"));
+        }
+
+        for (R resource = poll(); resource != null; resource = poll()) {
+            final R candidate = resource;
+
+            if (isValid(candidate)) {
+                return Try.success(candidate);
+            } else {
+                discard(candidate);
+            }
+        }
+
+        if (!reserve()) {
+            return Try.failure(new IllegalStateException("ResourcePool is exhausted: " + maxTotal));
+        }
+
+        final Try<R> created = Try.of(factory)
+                .map(Objects::requireNonNull);
+
+        if (created.isFailure()) {
+            totalCount.decrementAndGet();
+        }
+
+        return created;
+    }
+
+    private boolean reserve() {
+        for (int total = totalCount.get(); total < maxTotal; total = totalCount.get()) {
+            if (totalCount.compareAndSet(total, total + 1)) {
+                return true;
+            }
+        }
+
+        return false;
+    }
+
+    private R poll() {
+        final R resource = idle.poll();
+
+        if (resource != null) {
+            idleCount.decrementAndGet();
+        }
+
+        return resource;
+    }
+
+    private void release(R resource) {
+        if (closed) {
+            discard(resource);
+        } else if (idleCount.incrementAndGet() <= maxIdle) {
+            idle.offer(resource);
+
+            if (closed) {
+                drain();
+            }
+        } else {
+            idleCount.decrementAndGet();
+            discard(resource);
+        }
+    }
+
+    private void drain() {
+        for (R resource = poll(); resource != null; resource = poll()) {
+            discard(resource);
+        }
+    }
+
+    private boolean isValid(R resource) {
+        try {
+            return validator.test(resource);
+        } catch (RuntimeException e) {
+            return false;
+        }
+    }
+
+    private void discard(R resource) {
+        discard(resource, null);
+    }
+
+    private void discard(R resource, @Nullable Throwable cause) {
+        totalCount.decrementAndGet();
+
+        try {
+            resource.close();
+        } catch (Exception e) {
+            addSuppressed(cause, e);
+        }
+    }
+
+    private static void addSuppressed(Throwable cause, Throwable error) {
+        if (cause != null && cause != error) {
+            cause.addSuppressed(error);
+        }
+    }
+}
@@ -0,0 +1,319 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.monad.Try;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.stream.Collectors;
+
+/**
+ * Staged processing engine passing values between bounded queues, each drained on its own executor.
+ * <p>
+ * A full queue blocks the stage feeding it, so backpressure reaches {@link #submit} from the slowest stage. Failures
+ * skip the remaining stages and go straight to the sink, which is called concurrently from the stage workers. Errors
+ * thrown by a stage are delivered as failures too, so a worker never dies with an item in flight.
+ * <p>
+ * Every worker holds an executor thread until the pipeline is closed, so building fails when a thread pool or fork
+ * join pool cannot run all workers assigned to it at once. Other executors are trusted to provide enough threads.
+ */
+public final class TryPipeline<I, O> implements AutoCloseable {
+    private static final Object POISON = new Object();
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final List<Stage> stages;
+    private final Consumer<Try<O>> sink;
+    private boolean closed;
+
+    private TryPipeline(List<Stage> stages, Consumer<Try<O>> sink) {
+        this.stages = stages;
+        this.sink = sink;
+    }
+
+    // Constructors
+
+    public static <I> Builder<I, I> builder() {
+        return new Builder<>();
+    }
+
+    // Behaviour
+
+    public void submit(I input) throws InterruptedException {
+        Objects.requireNonNull(input);
+
+        lock.readLock().lock();
+
+        try {
+            checkOpen();
+            stages.get(0).queue.put(input);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public boolean offer(I input) {
+        Objects.requireNonNull(input);
+
+        lock.readLock().lock();
+
+        try {
+            checkOpen();
+
+            return stages.get(0).queue.offer(input);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public List<StageMetrics> metrics() {
+        return stages.stream()
+                .map(stage -> StageMetrics.of(stage.name,
+                        stage.queue.size(),
+                        stage.processed.sum(),
+                        stage.failed.sum()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    public void close() {
+        lock.writeLock().lock();
+
+        try {
+            if (closed) {
+                return;
+            }
+
+            closed = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            for (Stage stage : stages) {
+                for (int i = 0; i < stage.workers; i++) {
+                    stage.queue.put(POISON);
+                }
+
+                stage.exited.await();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    // Internals
+
+    private void start() {
+        for (int index = 0; index < stages.size(); index++) {
+            final Stage stage = stages.get(index);
+            final int current = index;
+
+            for (int i = 0; i < stage.workers; i++) {
+                stage.executor.execute(() -> work(current));
+            }
+        }
+    }
+
+    private void checkOpen() {
+        if (closed) {
+            throw new IllegalStateException("Pipeline closed");
+        }
+    }
+
+    private void work(int index) {
+        final Stage stage = stages.get(index);
+        final Stage next = index + 1 < stages.size() ? stages.get(index + 1) : null;
+
+        try {
+            while (true) {
+                final Object item = stage.queue.take();
+
+                if (item == POISON) {
+                    break;
+                }
+
+                final Try<Object> result = evaluate(stage, item);
+
+                stage.processed.increment();
+
+                if (result.isFailure()) {
+                    stage.failed.increment();
+                    deliver(result);
+                } else if (next == null) {
+                    deliver(result);
+                } else {
+                    next.queue.put(result.get());
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            stage.exited.countDown();
+        }
+    }
+
+    private static Try<Object> evaluate(Stage stage, Object item) {
+        try {
+            return Try.of(() -> Objects.requireNonNull(stage.function.apply(item)));
+        } catch (Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void deliver(Try<Object> result) {
+        try {
+            sink.accept((Try<O>) result);
+        } catch (RuntimeException e) {
+            Thread.currentThread().getUncaughtExceptionHandler().uncaughtException(Thread.currentThread(), e);
+        }
+    }
+
+    private static int threads(Executor executor) {
+        if (executor instanceof ForkJoinPool) {
+            return ((ForkJoinPool) executor).getParallelism();
+        } else if (executor instanceof ThreadPoolExecutor) {
+            final ThreadPoolExecutor pool = (ThreadPoolExecutor) executor;
+
+            return pool.getQueue() instanceof SynchronousQueue ? pool.getMaximumPoolSize() : pool.getCorePoolSize();
+        } else {
+            return Integer.MAX_VALUE;
+        }
+    }
+
+    private static final class Definition {
+        private final String name;
+        private final CheckedFunction<Object, Object> function;
+        private final Executor executor;
+        private final int workers;
+        private final int capacity;
+
+        private Definition(String name,
+                           CheckedFunction<Object, Object> function,
+                           Executor executor,
+                           int workers,
+                           int capacity) {
+            this.name = name;
+            this.function = function;
+            this.executor = executor;
+            this.workers = workers;
+            this.capacity = capacity;
+        }
+    }
+
+    private static final class Stage {
+        private final LongAdder processed = new LongAdder();
+        private final LongAdder failed = new LongAdder();
+        private final String name;
+        private final CheckedFunction<Object, Object> function;
+        private final Executor executor;
+        private final int workers;
+        private final BlockingQueue<Object> queue;
+        private final CountDownLatch exited;
+
+        private Stage(Definition definition) {
+            this.name = definition.name;
+            this.function = definition.function;
+            this.executor = definition.executor;
+            this.workers = definition.workers;
+            this.queue = new ArrayBlockingQueue<>(definition.capacity);
+            this.exited = new CountDownLatch(definition.workers);
+        }
+    }
+
+    public static final class Builder<I, T> {
+        private final List<Definition> definitions = new ArrayList<>();
+
+        private Builder() {
+        }
+
+        @SuppressWarnings("unchecked")
+        public <R> Builder<I, R> stage(String name,
+                                       CheckedFunction<T, R> function,
+                                       Executor executor,
+                                       int workers,
+                                       int capacity) {
+            Objects.requireNonNull(name);
+            Objects.requireNonNull(function);
+            Objects.requireNonNull(executor);
+
+            if (workers < 1) {
+                throw new IllegalArgumentException("workers must be positive: " + workers);
+            }
+
+            if (capacity < 1) {
+                throw new IllegalArgumentException("capacity must be positive: " + capacity);
+            }
+
+            definitions.add(new Definition(name, (CheckedFunction<Object, Object>) function, executor, workers, capacity));
+
+            return (Builder<I, R>) this;
+        }
+
+        public TryPipeline<I, T> build(Consumer<Try<T>> sink) {
+            Objects.requireNonNull(sink);
+
+            if (definitions.isEmpty()) {
+                throw new IllegalStateException("At least one stage is required");
+            }
+
+            final Map<Executor, Integer> workers = new IdentityHashMap<>();
+
+            for (Definition definition : definitions) {
+                final int required = workers.merge(definition.executor, definition.workers, Integer::sum);
+                final int available = threads(definition.executor);
+
+                if (required > available) {
+                    throw new IllegalArgumentException("Executor of stage " + definition.name + " runs at most "
+                            + available + " threads but its stages need " + required + " workers");
+                }
+            }
+
+            final TryPipeline<I, T> pipeline = new TryPipeline<>(definitions.stream()
+                    .map(Stage::new)
+                    .collect(Collectors.toUnmodifiableList()), sink);
+
+            pipeline.start();
+
+            return pipeline;
+        }
+    }
+}
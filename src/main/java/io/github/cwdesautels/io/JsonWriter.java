@@ -0,0 +1,401 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.io;
+
+import io.github.cwdesautels.annotation.Nullable;
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+
+import java.io.Flushable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Streaming utf-8 json writer encoding straight into an output stream or byte buffer.
+ * <p>
+ * Try and either values are written as {@code {"ok":..}} or {@code {"error":..}} envelopes through pluggable value
+ * writers. Stream output is buffered until {@link #flush()}, buffer output overflows with a
+ * {@link java.nio.BufferOverflowException}.
+ */
+public final class JsonWriter implements Flushable {
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] MIN_LONG = String.valueOf(Long.MIN_VALUE).getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] TRUE = "true".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] FALSE = "false".getBytes(StandardCharsets.US_ASCII);
+    private static final byte[] NULL = "null".getBytes(StandardCharsets.US_ASCII);
+    private static final int BUFFER_BYTES = 8192;
+
+    private final OutputStream out;
+    private final ByteBuffer target;
+    private final byte[] buffer;
+    private final byte[] digits = new byte[20];
+    private boolean[] separated = new boolean[16];
+    private boolean[] objects = new boolean[16];
+    private boolean named;
+    private int depth;
+    private int position;
+
+    private JsonWriter(@Nullable OutputStream out, @Nullable ByteBuffer target) {
+        this.out = out;
+        this.target = target;
+        this.buffer = out == null ? null : new byte[BUFFER_BYTES];
+    }
+
+    // Constructors
+
+    public static JsonWriter of(OutputStream out) {
+        Objects.requireNonNull(out);
+
+        return new JsonWriter(out, null);
+    }
+
+    public static JsonWriter of(ByteBuffer target) {
+        Objects.requireNonNull(target);
+
+        return new JsonWriter(null, target);
+    }
+
+    // Behaviour
+
+    public <E, T> JsonWriter write(Either<E, T> value,
+                                   ValueWriter<? super E> error,
+                                   ValueWriter<? super T> ok) throws IOException {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(error);
+        Objects.requireNonNull(ok);
+
+        beginObject();
+
+        if (value.isRight()) {
+            name("ok").value(value.get(), ok);
+        } else {
+            name("error").value(value.getLeft(), error);
+        }
+
+        return endObject();
+    }
+
+    public <T> JsonWriter write(Try<T> value,
+                                ValueWriter<? super Throwable> error,
+                                ValueWriter<? super T> ok) throws IOException {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(error);
+        Objects.requireNonNull(ok);
+
+        beginObject();
+
+        if (value.isSuccess()) {
+            name("ok").value(value.get(), ok);
+        } else {
+            name("error").value(value.getCause(), error);
+        }
+
+        return endObject();
+    }
+
+    public <T> JsonWriter value(@Nullable T value, ValueWriter<? super T> writer) throws IOException {
+        Objects.requireNonNull(writer);
+
+        if (value == null) {
+            return nullValue();
+        } else {
+            writer.write(this, value);
+
+            return this;
+        }
+    }
+
+    public JsonWriter beginObject() throws IOException {
+        return open('{');
+    }
+
+    public JsonWriter endObject() throws IOException {
+        return close('}');
+    }
+
+    public JsonWriter beginArray() throws IOException {
+        return open('[');
+    }
+
+    public JsonWriter endArray() throws IOException {
+        return close(']');
+    }
+
+    public JsonWriter name(CharSequence name) throws IOException {
+        Objects.requireNonNull(name);
+
+        if (!objects[depth] || named) {
+            throw new IllegalStateException("Names are only allowed inside objects before a value");
+        }
+
+        separate();
+        quote(name);
+        put(':');
+        named = true;
+
+        return this;
+    }
+
+    public JsonWriter string(CharSequence value) throws IOException {
+        Objects.requireNonNull(value);
+
+        separate();
+        quote(value);
+
+        return this;
+    }
+
+    public JsonWriter number(long value) throws IOException {
+        separate();
+
+        if (value == Long.MIN_VALUE) {
+            put(MIN_LONG);
+
+            return this;
+        }
+
+        if (value < 0) {
+            put('-');
+            value = -value;
+        }
+
+        int index = digits.length;
+
+        do {
+            digits[--index] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+
+        for (; index < digits.length; index++) {
+            put(digits[index]);
+        }
+
+        return this;
+    }
+
+    public JsonWriter number(double value) throws IOException {
+        if (Double.isNaN(value) || Double.isInfinite(value)) {
+            throw new IllegalArgumentException("Json numbers must be finite: " + value);
+        }
+
+        if (value == (long) value && Math.abs(value) < 1e15) {
+            return number((long) value);
+        }
+
+        separate();
+        ascii(Double.toString(value));
+
+        return this;
+    }
+
+    public JsonWriter number(float value) throws IOException {
+        if (Float.isNaN(value) || Float.isInfinite(value)) {
+            throw new IllegalArgumentException("Json numbers must be finite: " + value);
+        }
+
+        if (value == (long) value && Math.abs(value) < 1e15) {
+            return number((long) value);
+        }
+
+        separate();
+        ascii(Float.toString(value));
+
+        return this;
+    }
+
+    public JsonWriter number(BigInteger value) throws IOException {
+        Objects.requireNonNull(value);
+
+        separate();
+        ascii(value.toString());
+
+        return this;
+    }
+
+    public JsonWriter number(BigDecimal value) throws IOException {
+        Objects.requireNonNull(value);
+
+        separate();
+        ascii(value.toString());
+
+        return this;
+    }
+
+    public JsonWriter bool(boolean value) throws IOException {
+        separate();
+        put(value ? TRUE : FALSE);
+
+        return this;
+    }
+
+    public JsonWriter nullValue() throws IOException {
+        separate();
+        put(NULL);
+
+        return this;
+    }
+
+    @Override
+    public void flush() throws IOException {
+        if (out != null) {
+            drain();
+            out.flush();
+        }
+    }
+
+    // Internals
+
+    private JsonWriter open(char bracket) throws IOException {
+        separate();
+        put(bracket);
+
+        if (++depth == separated.length) {
+            separated = Arrays.copyOf(separated, depth * 2);
+            objects = Arrays.copyOf(objects, depth * 2);
+        }
+
+        separated[depth] = false;
+        objects[depth] = bracket == '{';
+
+        return this;
+    }
+
+    private JsonWriter close(char bracket) throws IOException {
+        if (depth == 0 || named || objects[depth] != (bracket == '}')) {
+            throw new IllegalStateException("Unbalanced " + bracket);
+        }
+
+        depth--;
+        put(bracket);
+
+        return this;
+    }
+
+    private void separate() throws IOException {
+        if (named) {
+            named = false;
+        } else if (depth > 0) {
+            if (separated[depth]) {
+                put(',');
+            }
+
+            separated[depth] = true;
+        }
+    }
+
+    private void ascii(String text) throws IOException {
+        for (int i = 0; i < text.length(); i++) {
+            put(text.charAt(i));
+        }
+    }
+
+    private void quote(CharSequence value) throws IOException {
+        put('"');
+
+        for (int i = 0; i < value.length(); i++) {
+            final char c = value.charAt(i);
+
+            if (c == '"' || c == '\\') {
+                put('\\');
+                put(c);
+            } else if (c < 0x20) {
+                escape(c);
+            } else if (c < 0x80) {
+                put(c);
+            } else if (c < 0x800) {
+                put(0xc0 | c >> 6);
+                put(0x80 | c & 0x3f);
+            } else if (Character.isHighSurrogate(c)
+                    && i + 1 < value.length()
+                    && Character.isLowSurrogate(value.charAt(i + 1))) {
+                final int codePoint = Character.toCodePoint(c, value.charAt(++i));
+
+                put(0xf0 | codePoint >> 18);
+                put(0x80 | codePoint >> 12 & 0x3f);
+                put(0x80 | codePoint >> 6 & 0x3f);
+                put(0x80 | codePoint & 0x3f);
+            } else if (Character.isSurrogate(c)) {
+                put('?');
+            } else {
+                put(0xe0 | c >> 12);
+                put(0x80 | c >> 6 & 0x3f);
+                put(0x80 | c & 0x3f);
+            }
+        }
+
+        put('"');
+    }
+
+    private void escape(char c) throws IOException {
+        put('\\');
+
+        if (c == '\n') {
+            put('n');
+        } else if (c == '\r') {
+            put('r');
+        } else if (c == '\t') {
+            put('t');
+        } else if (c == '\b') {
+            put('b');
+        } else if (c == '\f') {
+            put('f');
+        } else {
+            put('u');
+            put('0');
+            put('0');
+            put(HEX[c >> 4]);
+            put(HEX[c & 0xf]);
+        }
+    }
+
+    private void put(byte[] bytes) throws IOException {
+        for (byte b : bytes) {
+            put(b);
+        }
+    }
+
+    private void put(int b) throws IOException {
+        if (target != null) {
+            target.put((byte) b);
+        } else {
+            if (position == buffer.length) {
+                drain();
+            }
+
+            buffer[position++] = (byte) b;
+        }
+    }
+
+    private void drain() throws IOException {
+        out.write(buffer, 0, position);
+        position = 0;
+    }
+}
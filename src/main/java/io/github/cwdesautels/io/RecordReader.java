@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.io;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.monad.Either;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Streams newline delimited records from a memory mapped file, parsing each into an either.
+ * <p>
+ * Records are handed to the parser as read only slices of the mapping, without copying. The file is mapped in
+ * bounded windows, blank records are skipped, and parallel streams split the file into regions at record boundaries.
+ */
+public final class RecordReader {
+    private RecordReader() {
+    }
+
+    public static <T> Stream<Either<RecordError, T>> lines(Path file,
+                                                           CheckedFunction<ByteBuffer, T> parser) throws IOException {
+        Objects.requireNonNull(file);
+        Objects.requireNonNull(parser);
+
+        final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+
+        try {
+            return StreamSupport.stream(new RecordSpliterator<>(channel, parser, 0, channel.size(), 1), false)
+                    .onClose(() -> {
+                        try {
+                            channel.close();
+                        } catch (IOException e) {
+                            throw new UncheckedIOException(e);
+                        }
+                    });
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+
+            throw e;
+        }
+    }
+
+    public static <T> CheckedFunction<ByteBuffer, T> utf8(CheckedFunction<CharSequence, T> parser) {
+        Objects.requireNonNull(parser);
+
+        return record -> parser.apply(StandardCharsets.UTF_8.newDecoder().decode(record));
+    }
+}
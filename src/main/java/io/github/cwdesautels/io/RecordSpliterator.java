@@ -0,0 +1,206 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.io;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.Spliterator;
+import java.util.function.Consumer;
+
+/**
+ * Spliterator over the records of a region of a file, mapping it one window at a time.
+ * <p>
+ * Regions produced by splitting do not know their first line number; it is only counted when a record fails.
+ */
+final class RecordSpliterator<T> implements Spliterator<Either<RecordError, T>> {
+    private static final int WINDOW_BYTES = 64 << 20;
+    private static final long MIN_SPLIT_BYTES = 1 << 20;
+
+    private final FileChannel channel;
+    private final CheckedFunction<ByteBuffer, T> parser;
+    private final long end;
+    private long position;
+    private long regionStart;
+    private long firstLine;
+    private long lines;
+    private MappedByteBuffer window;
+    private long windowStart;
+
+    RecordSpliterator(FileChannel channel, CheckedFunction<ByteBuffer, T> parser, long start, long end, long firstLine) {
+        this.channel = channel;
+        this.parser = parser;
+        this.position = start;
+        this.regionStart = start;
+        this.end = end;
+        this.firstLine = firstLine;
+    }
+
+    @Override
+    public boolean tryAdvance(Consumer<? super Either<RecordError, T>> action) {
+        try {
+            while (position < end) {
+                final long start = position;
+                final long newline = find(start);
+                final long index = lines++;
+                int length = (int) (newline - start);
+
+                position = Math.min(newline + 1, end);
+
+                if (length > 0 && window.get((int) (newline - 1 - windowStart)) == '\r') {
+                    length--;
+                }
+
+                if (length > 0) {
+                    action.accept(parse(slice(start, length), index, start));
+
+                    return true;
+                }
+            }
+
+            return false;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public Spliterator<Either<RecordError, T>> trySplit() {
+        final long remaining = end - position;
+
+        if (remaining < 2 * MIN_SPLIT_BYTES) {
+            return null;
+        }
+
+        try {
+            final long split = find(position + remaining / 2) + 1;
+
+            if (split >= end) {
+                return null;
+            }
+
+            final long prefixLine = firstLine == 0 ? 0 : firstLine + lines;
+            final RecordSpliterator<T> prefix = new RecordSpliterator<>(channel, parser, position, split, prefixLine);
+
+            position = split;
+            regionStart = split;
+            firstLine = 0;
+            lines = 0;
+
+            return prefix;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    @Override
+    public long estimateSize() {
+        return end - position;
+    }
+
+    @Override
+    public int characteristics() {
+        return ORDERED | NONNULL | IMMUTABLE;
+    }
+
+    // Internals
+
+    private Either<RecordError, T> parse(ByteBuffer record, long index, long offset) throws IOException {
+        final Try<T> result = Try.of(() -> parser.apply(record));
+
+        if (result.isSuccess()) {
+            return Either.right(result.get());
+        }
+
+        if (firstLine == 0) {
+            firstLine = countLines(regionStart) + 1;
+        }
+
+        return Either.left(RecordError.of(firstLine + index, offset, result.getCause()));
+    }
+
+    private ByteBuffer slice(long start, int length) {
+        return window.duplicate()
+                .position((int) (start - windowStart))
+                .limit((int) (start - windowStart) + length)
+                .slice()
+                .asReadOnlyBuffer();
+    }
+
+    private long find(long from) throws IOException {
+        long size = WINDOW_BYTES;
+
+        if (window == null || from < windowStart || from >= windowStart + window.limit()) {
+            map(from, size);
+        }
+
+        long scan = from;
+
+        while (true) {
+            final long windowEnd = windowStart + window.limit();
+
+            for (; scan < windowEnd; scan++) {
+                if (window.get((int) (scan - windowStart)) == '\n') {
+                    return scan;
+                }
+            }
+
+            if (windowEnd >= end) {
+                return end;
+            }
+
+            size = Math.min(Integer.MAX_VALUE, Math.max(size, windowEnd - from) * 2);
+            map(from, size);
+        }
+    }
+
+    private void map(long from, long size) throws IOException {
+        windowStart = from;
+        window = channel.map(FileChannel.MapMode.READ_ONLY, from, Math.min(size, end - from));
+    }
+
+    private long countLines(long to) throws IOException {
+        long lines = 0;
+
+        for (long start = 0; start < to; start += WINDOW_BYTES) {
+            final MappedByteBuffer region = channel.map(FileChannel.MapMode.READ_ONLY, start,
+                    Math.min(WINDOW_BYTES, to - start));
+
+            while (region.hasRemaining()) {
+                if (region.get() == '\n') {
+                    lines++;
+                }
+            }
+        }
+
+        return lines;
+    }
+}
@@ -0,0 +1,79 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.io;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Writes a single json value for a type, without reflection.
+ */
+@FunctionalInterface
+public interface ValueWriter<T> {
+
+    // Constructors
+
+    static ValueWriter<CharSequence> strings() {
+        return (writer, value) -> writer.string(value);
+    }
+
+    static ValueWriter<Number> numbers() {
+        return (writer, value) -> {
+            if (value instanceof Long || value instanceof Integer || value instanceof Short || value instanceof Byte
+                    || value instanceof AtomicLong || value instanceof AtomicInteger
+                    || value instanceof LongAdder || value instanceof LongAccumulator) {
+                writer.number(value.longValue());
+            } else if (value instanceof Float) {
+                writer.number(value.floatValue());
+            } else if (value instanceof BigDecimal) {
+                writer.number((BigDecimal) value);
+            } else if (value instanceof BigInteger) {
+                writer.number((BigInteger) value);
+            } else {
+                writer.number(value.doubleValue());
+            }
+        };
+    }
+
+    static ValueWriter<Boolean> booleans() {
+        return JsonWriter::bool;
+    }
+
+    static ValueWriter<Throwable> throwables() {
+        return (writer, value) -> writer.beginObject()
+                .name("type").string(value.getClass().getName())
+                .name("message").value(value.getMessage(), strings())
+                .endObject();
+    }
+
+    // Behaviour
+
+    void write(JsonWriter writer, T value) throws IOException;
+}
@@ -0,0 +1,116 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+/**
+ * Time budget consulted before each try stage runs on the current thread.
+ * <p>
+ * Within {@link #run(Supplier)} every stage started through {@link Try#of}, including map, flatMap and the recovery
+ * methods, short circuits into a shared failure once the budget is exhausted. Only user supplied stages are gated,
+ * library cleanup such as closing pooled resources always runs. Until the first deadline is run the check costs a
+ * single volatile read, afterwards a thread local lookup.
+ */
+public final class Deadline {
+    private static final ThreadLocal<Deadline> CURRENT = new ThreadLocal<>();
+    private static volatile boolean used;
+
+    private final long deadlineNanos;
+
+    private Deadline(long deadlineNanos) {
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    // Constructors
+
+    public static Deadline after(Duration budget) {
+        Objects.requireNonNull(budget);
+
+        return new Deadline(System.nanoTime() + budget.toNanos());
+    }
+
+    public static Optional<Deadline> current() {
+        return Optional.ofNullable(CURRENT.get());
+    }
+
+    // Behaviour
+
+    public boolean isExpired() {
+        return System.nanoTime() - deadlineNanos >= 0;
+    }
+
+    public Duration remaining() {
+        return Duration.ofNanos(Math.max(0, deadlineNanos - System.nanoTime()));
+    }
+
+    public <T> T run(Supplier<T> body) {
+        Objects.requireNonNull(body);
+
+        final Deadline previous = CURRENT.get();
+
+        if (previous == null || deadlineNanos - previous.deadlineNanos < 0) {
+            CURRENT.set(this);
+        }
+
+        if (!used) {
+            used = true;
+        }
+
+        try {
+            return body.get();
+        } finally {
+            if (previous == null) {
+                CURRENT.remove();
+            } else {
+                CURRENT.set(previous);
+            }
+        }
+    }
+
+    // Internals
+
+    static boolean isExceeded() {
+        if (!used) {
+            return false;
+        }
+
+        final Deadline deadline = CURRENT.get();
+
+        return deadline != null && deadline.isExpired();
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Try<T> exceeded() {
+        return (Try<T>) Exceeded.FAILURE;
+    }
+
+    private static final class Exceeded {
+        private static final Try<?> FAILURE = Try.failure(DeadlineExceededException.INSTANCE);
+    }
+}
@@ -38,15 +38,15 @@ public interface Either<L, R> {
     // Constructors
 
     static <L, R> Either<L, R> left(L left) {
-        return ImmutableLeft.<L, R>builder()
-                .left(left)
-                .build();
+        return ImmutableLeft.of(left);
     }
 
     static <L, R> Either<L, R> right(R right) {
-        return ImmutableRight.<L, R>builder()
-                .right(right)
-                .build();
+        return ImmutableRight.of(right);
+    }
+
+    static <L, A> EitherFor.Step1<L, A> For(Either<L, A> first) {
+        return EitherFor.of(first);
     }
 
     // Behaviour
@@ -193,4 +193,12 @@ public interface Either<L, R> {
             return Optional.empty();
         }
     }
+
+    default Option<R> toOption() {
+        if (isRight()) {
+            return Option.some(get());
+        } else {
+            return Option.none();
+        }
+    }
 }
@@ -0,0 +1,153 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.function.Function;
+
+/**
+ * Right biased either monad over an asynchronous computation.
+ * <p>
+ * Stages compose on the completing thread and never block. When the underlying future has already completed the
+ * stage is applied immediately, so chains that are synchronous in practice avoid async dispatch.
+ */
+public final class EitherAsync<L, R> {
+    private final CompletableFuture<Either<L, R>> future;
+
+    private EitherAsync(CompletableFuture<Either<L, R>> future) {
+        this.future = future;
+    }
+
+    // Constructors
+
+    public static <L, R> EitherAsync<L, R> of(CompletionStage<Either<L, R>> stage) {
+        Objects.requireNonNull(stage);
+
+        return new EitherAsync<>(stage.toCompletableFuture());
+    }
+
+    public static <L, R> EitherAsync<L, R> completed(Either<L, R> either) {
+        Objects.requireNonNull(either);
+
+        return new EitherAsync<>(CompletableFuture.completedFuture(either));
+    }
+
+    public static <L, R> EitherAsync<L, R> left(L left) {
+        return completed(Either.left(left));
+    }
+
+    public static <L, R> EitherAsync<L, R> right(R right) {
+        return completed(Either.right(right));
+    }
+
+    // Behaviour
+
+    public <T> EitherAsync<L, T> map(Function<R, T> function) {
+        Objects.requireNonNull(function);
+
+        return apply(either -> either.map(function));
+    }
+
+    public <T> EitherAsync<L, T> flatMap(Function<R, EitherAsync<L, T>> function) {
+        Objects.requireNonNull(function);
+
+        return compose(either -> {
+            if (either.isRight()) {
+                return function.apply(either.get());
+            } else {
+                return left(either.getLeft());
+            }
+        });
+    }
+
+    public <T> EitherAsync<T, R> mapLeft(Function<L, T> function) {
+        Objects.requireNonNull(function);
+
+        return apply(either -> either.mapLeft(function));
+    }
+
+    public <T> EitherAsync<T, R> flatMapLeft(Function<L, EitherAsync<T, R>> function) {
+        Objects.requireNonNull(function);
+
+        return compose(either -> {
+            if (either.isLeft()) {
+                return function.apply(either.getLeft());
+            } else {
+                return right(either.get());
+            }
+        });
+    }
+
+    public <T> CompletableFuture<T> fold(Function<L, T> leftMapper, Function<R, T> rightMapper) {
+        Objects.requireNonNull(leftMapper);
+        Objects.requireNonNull(rightMapper);
+
+        return then(either -> either.fold(leftMapper, rightMapper));
+    }
+
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    public CompletableFuture<Either<L, R>> toCompletableFuture() {
+        return future;
+    }
+
+    // Internals
+
+    private <A, B> EitherAsync<A, B> apply(Function<Either<L, R>, Either<A, B>> function) {
+        return new EitherAsync<>(then(function));
+    }
+
+    private <T> CompletableFuture<T> then(Function<Either<L, R>, T> function) {
+        if (isCompleted()) {
+            try {
+                return CompletableFuture.completedFuture(function.apply(future.join()));
+            } catch (RuntimeException e) {
+                return CompletableFuture.failedFuture(e);
+            }
+        } else {
+            return future.thenApply(function);
+        }
+    }
+
+    private <A, B> EitherAsync<A, B> compose(Function<Either<L, R>, EitherAsync<A, B>> function) {
+        if (isCompleted()) {
+            try {
+                return Objects.requireNonNull(function.apply(future.join()));
+            } catch (RuntimeException e) {
+                return new EitherAsync<>(CompletableFuture.failedFuture(e));
+            }
+        } else {
+            return new EitherAsync<>(future.thenCompose(either -> function.apply(either).future));
+        }
+    }
+
+    private boolean isCompleted() {
+        return future.isDone() && !future.isCompletedExceptionally();
+    }
+}
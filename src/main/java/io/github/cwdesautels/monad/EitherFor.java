@@ -0,0 +1,335 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.Function3;
+import io.github.cwdesautels.function.Function4;
+import io.github.cwdesautels.function.Function5;
+import io.github.cwdesautels.function.Function6;
+
+import java.util.Objects;
+import java.util.function.BiFunction;
+import java.util.function.Function;
+
+/**
+ * Fused for comprehension over dependent either steps.
+ * <p>
+ * Steps only record their functions, yield runs them in sequence and returns the first left as is, so the chain
+ * allocates nothing beyond what the steps themselves return. Unlike {@link TryFor}, steps return an either, as a left
+ * is an ordinary value rather than something thrown.
+ */
+public final class EitherFor {
+
+    private EitherFor() {
+    }
+
+    // Constructors
+
+    static <L, A> Step1<L, A> of(Either<L, A> first) {
+        return new Step1<>(Objects.requireNonNull(first));
+    }
+
+    public static final class Step1<L, A> {
+        private final Either<L, A> first;
+
+        private Step1(Either<L, A> first) {
+            this.first = first;
+        }
+
+        public <B> Step2<L, A, B> then(Function<A, Either<L, B>> second) {
+            Objects.requireNonNull(second);
+
+            return new Step2<>(first, second);
+        }
+
+        public <R> Either<L, R> yield(Function<A, R> function) {
+            Objects.requireNonNull(function);
+
+            if (first.isLeft()) {
+                return left(first);
+            }
+
+            return Either.right(function.apply(first.get()));
+        }
+    }
+
+    public static final class Step2<L, A, B> {
+        private final Either<L, A> first;
+        private final Function<A, Either<L, B>> second;
+
+        private Step2(Either<L, A> first, Function<A, Either<L, B>> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public <C> Step3<L, A, B, C> then(BiFunction<A, B, Either<L, C>> third) {
+            Objects.requireNonNull(third);
+
+            return new Step3<>(first, second, third);
+        }
+
+        public <R> Either<L, R> yield(BiFunction<A, B, R> function) {
+            Objects.requireNonNull(function);
+
+            if (first.isLeft()) {
+                return left(first);
+            }
+
+            final A a = first.get();
+            final Either<L, B> b = Objects.requireNonNull(second.apply(a));
+
+            if (b.isLeft()) {
+                return left(b);
+            }
+
+            return Either.right(function.apply(a, b.get()));
+        }
+    }
+
+    public static final class Step3<L, A, B, C> {
+        private final Either<L, A> first;
+        private final Function<A, Either<L, B>> second;
+        private final BiFunction<A, B, Either<L, C>> third;
+
+        private Step3(Either<L, A> first, Function<A, Either<L, B>> second, BiFunction<A, B, Either<L, C>> third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        public <D> Step4<L, A, B, C, D> then(Function3<A, B, C, Either<L, D>> fourth) {
+            Objects.requireNonNull(fourth);
+
+            return new Step4<>(first, second, third, fourth);
+        }
+
+        public <R> Either<L, R> yield(Function3<A, B, C, R> function) {
+            Objects.requireNonNull(function);
+
+            if (first.isLeft()) {
+                return left(first);
+            }
+
+            final A a = first.get();
+            final Either<L, B> b = Objects.requireNonNull(second.apply(a));
+
+            if (b.isLeft()) {
+                return left(b);
+            }
+
+            final Either<L, C> c = Objects.requireNonNull(third.apply(a, b.get()));
+
+            if (c.isLeft()) {
+                return left(c);
+            }
+
+            return Either.right(function.apply(a, b.get(), c.get()));
+        }
+    }
+
+    public static final class Step4<L, A, B, C, D> {
+        private final Either<L, A> first;
+        private final Function<A, Either<L, B>> second;
+        private final BiFunction<A, B, Either<L, C>> third;
+        private final Function3<A, B, C, Either<L, D>> fourth;
+
+        private Step4(Either<L, A> first,
+                      Function<A, Either<L, B>> second,
+                      BiFunction<A, B, Either<L, C>> third,
+                      Function3<A, B, C, Either<L, D>> fourth) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.fourth = fourth;
+        }
+
+        public <E> Step5<L, A, B, C, D, E> then(Function4<A, B, C, D, Either<L, E>> fifth) {
+            Objects.requireNonNull(fifth);
+
+            return new Step5<>(first, second, third, fourth, fifth);
+        }
+
+        public <R> Either<L, R> yield(Function4<A, B, C, D, R> function) {
+            Objects.requireNonNull(function);
+
+            if (first.isLeft()) {
+                return left(first);
+            }
+
+            final A a = first.get();
+            final Either<L, B> b = Objects.requireNonNull(second.apply(a));
+
+            if (b.isLeft()) {
+                return left(b);
+            }
+
+            final Either<L, C> c = Objects.requireNonNull(third.apply(a, b.get()));
+
+            if (c.isLeft()) {
+                return left(c);
+            }
+
+            final Either<L, D> d = Objects.requireNonNull(fourth.apply(a, b.get(), c.get()));
+
+            if (d.isLeft()) {
+                return left(d);
+            }
+
+            return Either.right(function.apply(a, b.get(), c.get(), d.get()));
+        }
+    }
+
+    public static final class Step5<L, A, B, C, D, E> {
+        private final Either<L, A> first;
+        private final Function<A, Either<L, B>> second;
+        private final BiFunction<A, B, Either<L, C>> third;
+        private final Function3<A, B, C, Either<L, D>> fourth;
+        private final Function4<A, B, C, D, Either<L, E>> fifth;
+
+        private Step5(Either<L, A> first,
+                      Function<A, Either<L, B>> second,
+                      BiFunction<A, B, Either<L, C>> third,
+                      Function3<A, B, C, Either<L, D>> fourth,
+                      Function4<A, B, C, D, Either<L, E>> fifth) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.fourth = fourth;
+            this.fifth = fifth;
+        }
+
+        public <F> Step6<L, A, B, C, D, E, F> then(Function5<A, B, C, D, E, Either<L, F>> sixth) {
+            Objects.requireNonNull(sixth);
+
+            return new Step6<>(first, second, third, fourth, fifth, sixth);
+        }
+
+        public <R> Either<L, R> yield(Function5<A, B, C, D, E, R> function) {
+            Objects.requireNonNull(function);
+
+            if (first.isLeft()) {
+                return left(first);
+            }
+
+            final A a = first.get();
+            final Either<L, B> b = Objects.requireNonNull(second.apply(a));
+
+            if (b.isLeft()) {
+                return left(b);
+            }
+
+            final Either<L, C> c = Objects.requireNonNull(third.apply(a, b.get()));
+
+            if (c.isLeft()) {
+                return left(c);
+            }
+
+            final Either<L, D> d = Objects.requireNonNull(fourth.apply(a, b.get(), c.get()));
+
+            if (d.isLeft()) {
+                return left(d);
+            }
+
+            final Either<L, E> e = Objects.requireNonNull(fifth.apply(a, b.get(), c.get(), d.get()));
+
+            if (e.isLeft()) {
+                return left(e);
+            }
+
+            return Either.right(function.apply(a, b.get(), c.get(), d.get(), e.get()));
+        }
+    }
+
+    public static final class Step6<L, A, B, C, D, E, F> {
+        private final Either<L, A> first;
+        private final Function<A, Either<L, B>> second;
+        private final BiFunction<A, B, Either<L, C>> third;
+        private final Function3<A, B, C, Either<L, D>> fourth;
+        private final Function4<A, B, C, D, Either<L, E>> fifth;
+        private final Function5<A, B, C, D, E, Either<L, F>> sixth;
+
+        private Step6(Either<L, A> first,
+                      Function<A, Either<L, B>> second,
+                      BiFunction<A, B, Either<L, C>> third,
+                      Function3<A, B, C, Either<L, D>> fourth,
+                      Function4<A, B, C, D, Either<L, E>> fifth,
+                      Function5<A, B, C, D, E, Either<L, F>> sixth) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.fourth = fourth;
+            this.fifth = fifth;
+            this.sixth = sixth;
+        }
+
+        public <R> Either<L, R> yield(Function6<A, B, C, D, E, F, R> function) {
+            Objects.requireNonNull(function);
+
+            if (first.isLeft()) {
+                return left(first);
+            }
+
+            final A a = first.get();
+            final Either<L, B> b = Objects.requireNonNull(second.apply(a));
+
+            if (b.isLeft()) {
+                return left(b);
+            }
+
+            final Either<L, C> c = Objects.requireNonNull(third.apply(a, b.get()));
+
+            if (c.isLeft()) {
+                return left(c);
+            }
+
+            final Either<L, D> d = Objects.requireNonNull(fourth.apply(a, b.get(), c.get()));
+
+            if (d.isLeft()) {
+                return left(d);
+            }
+
+            final Either<L, E> e = Objects.requireNonNull(fifth.apply(a, b.get(), c.get(), d.get()));
+
+            if (e.isLeft()) {
+                return left(e);
+            }
+
+            final Either<L, F> f = Objects.requireNonNull(sixth.apply(a, b.get(), c.get(), d.get(), e.get()));
+
+            if (f.isLeft()) {
+                return left(f);
+            }
+
+            return Either.right(function.apply(a, b.get(), c.get(), d.get(), e.get(), f.get()));
+        }
+    }
+
+    // Internals
+
+    @SuppressWarnings("unchecked")
+    private static <L, R> Either<L, R> left(Either<L, ?> left) {
+        return (Either<L, R>) left;
+    }
+}
@@ -38,6 +38,7 @@ public interface Failure<T> extends Try<T> {
 
     @Override
     @Nullable
+    @Value.Parameter
     Throwable getCause();
 
     @Override
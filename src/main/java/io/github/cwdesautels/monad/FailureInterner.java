@@ -0,0 +1,177 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Opt in canonicalization of failures with near identical causes.
+ * <p>
+ * Causes are matched by class, message and top stack frames, and every match is replaced by the first failure seen
+ * for it. Canonical failures are weakly held, so the table never outlives the results referencing it.
+ */
+public final class FailureInterner {
+    private final ConcurrentMap<Key, Canonical> table = new ConcurrentHashMap<>();
+    private final ReferenceQueue<Try<?>> queue = new ReferenceQueue<>();
+    private final int frames;
+
+    private FailureInterner(int frames) {
+        if (frames < 0) {
+            throw new IllegalArgumentException("frames must not be negative: " + frames);
+        }
+
+        this.frames = frames;
+    }
+
+    // Constructors
+
+    public static FailureInterner of(int frames) {
+        return new FailureInterner(frames);
+    }
+
+    // Behaviour
+
+    @SuppressWarnings("unchecked")
+    public <T> Try<T> intern(Try<T> value) {
+        Objects.requireNonNull(value);
+
+        if (value.isSuccess() || value.getCause() == null) {
+            return value;
+        }
+
+        expunge();
+
+        final Key key = new Key(value.getCause(), frames);
+
+        while (true) {
+            final Canonical existing = table.get(key);
+
+            if (existing != null) {
+                final Try<?> canonical = existing.get();
+
+                if (canonical != null) {
+                    existing.occurrences.increment();
+
+                    return (Try<T>) canonical;
+                }
+
+                table.remove(key, existing);
+            }
+
+            final Canonical created = new Canonical(key, value, queue);
+
+            if (table.putIfAbsent(key, created) == null) {
+                created.occurrences.increment();
+
+                return value;
+            }
+        }
+    }
+
+    public long occurrences(Throwable cause) {
+        Objects.requireNonNull(cause);
+
+        final Canonical canonical = table.get(new Key(cause, frames));
+
+        if (canonical == null || canonical.get() == null) {
+            return 0;
+        } else {
+            return canonical.occurrences.sum();
+        }
+    }
+
+    public int size() {
+        expunge();
+
+        return table.size();
+    }
+
+    // Internals
+
+    private void expunge() {
+        Canonical collected;
+
+        while ((collected = (Canonical) queue.poll()) != null) {
+            table.remove(collected.key, collected);
+        }
+    }
+
+    private static final class Canonical extends WeakReference<Try<?>> {
+        private final LongAdder occurrences = new LongAdder();
+        private final Key key;
+
+        private Canonical(Key key, Try<?> failure, ReferenceQueue<Try<?>> queue) {
+            super(failure, queue);
+            this.key = key;
+        }
+    }
+
+    private static final class Key {
+        private static final StackTraceElement[] NO_FRAMES = new StackTraceElement[0];
+
+        private final Class<?> type;
+        private final String message;
+        private final StackTraceElement[] frames;
+        private final int hash;
+
+        private Key(Throwable cause, int frames) {
+            this.type = cause.getClass();
+            this.message = cause.getMessage();
+            this.frames = frames == 0 ? NO_FRAMES : top(cause.getStackTrace(), frames);
+            this.hash = Objects.hash(type, message, Arrays.hashCode(this.frames));
+        }
+
+        private static StackTraceElement[] top(StackTraceElement[] trace, int frames) {
+            return Arrays.copyOf(trace, Math.min(frames, trace.length));
+        }
+
+        @Override
+        public boolean equals(Object other) {
+            if (this == other) {
+                return true;
+            } else if (other instanceof Key) {
+                final Key key = (Key) other;
+
+                return hash == key.hash
+                        && type == key.type
+                        && Objects.equals(message, key.message)
+                        && Arrays.equals(frames, key.frames);
+            } else {
+                return false;
+            }
+        }
+
+        @Override
+        public int hashCode() {
+            return hash;
+        }
+    }
+}
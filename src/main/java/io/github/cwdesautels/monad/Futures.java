@@ -0,0 +1,132 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Bridges between futures and tries, unwrapping completion wrappers and reading completed futures without blocking.
+ */
+final class Futures {
+    private Futures() {
+    }
+
+    static <T> Try<T> fromFuture(Future<T> future) {
+        Objects.requireNonNull(future);
+
+        try {
+            return Try.success(future.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return Try.failure(e);
+        } catch (Exception e) {
+            return Try.failure(unwrap(e));
+        }
+    }
+
+    static <T> CompletableFuture<Try<T>> fromCompletionStage(CompletionStage<T> stage) {
+        Objects.requireNonNull(stage);
+
+        if (stage instanceof CompletableFuture && ((CompletableFuture<T>) stage).isDone()) {
+            return CompletableFuture.completedFuture(fromFuture((CompletableFuture<T>) stage));
+        } else {
+            return stage.<Try<T>>handle((value, error) -> {
+                if (error == null) {
+                    return Try.success(value);
+                } else {
+                    return Try.failure(unwrap(error));
+                }
+            }).toCompletableFuture();
+        }
+    }
+
+    static <T> CompletableFuture<T> toCompletableFuture(Try<T> result) {
+        if (result.isSuccess()) {
+            return CompletableFuture.completedFuture(result.get());
+        } else {
+            return CompletableFuture.failedFuture(result.getCause());
+        }
+    }
+
+    static <T> Try<List<T>> awaitAll(Collection<? extends Future<T>> futures, Duration timeout) {
+        Objects.requireNonNull(futures);
+        Objects.requireNonNull(timeout);
+
+        final long deadline = System.nanoTime() + timeout.toNanos();
+        final List<T> values = new ArrayList<>(futures.size());
+
+        for (Future<T> future : futures) {
+            final Try<T> result = future.isDone()
+                    ? fromFuture(future)
+                    : await(future, deadline - System.nanoTime());
+
+            if (result.isFailure()) {
+                return Try.failure(result.getCause());
+            }
+
+            values.add(result.get());
+        }
+
+        return Try.success(Collections.unmodifiableList(values));
+    }
+
+    private static <T> Try<T> await(Future<T> future, long nanos) {
+        try {
+            return Try.success(future.get(nanos, TimeUnit.NANOSECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return Try.failure(e);
+        } catch (TimeoutException e) {
+            return Try.failure(e);
+        } catch (Exception e) {
+            return Try.failure(unwrap(e));
+        }
+    }
+
+    private static Throwable unwrap(Throwable error) {
+        Throwable current = error;
+
+        while ((current instanceof CompletionException || current instanceof ExecutionException)
+                && current.getCause() != null) {
+            current = current.getCause();
+        }
+
+        return current;
+    }
+}
@@ -40,6 +40,7 @@ public interface Left<L, R> extends Either<L, R> {
 
     @Override
     @Nullable
+    @Value.Parameter
     L left();
 
     @Override
@@ -0,0 +1,82 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import java.util.NoSuchElementException;
+
+/**
+ * Singleton empty option.
+ */
+public final class None<T> implements Option<T> {
+    private static final long serialVersionUID = 1L;
+    private static final None<?> INSTANCE = new None<>();
+
+    private None() {
+    }
+
+    // Constructors
+
+    @SuppressWarnings("unchecked")
+    static <T> None<T> instance() {
+        return (None<T>) INSTANCE;
+    }
+
+    // Behaviour
+
+    @Override
+    public T get() {
+        throw new NoSuchElementException();
+    }
+
+    @Override
+    public boolean isSome() {
+        return false;
+    }
+
+    @Override
+    public boolean isNone() {
+        return true;
+    }
+
+    @Override
+    public String toString() {
+        return "None";
+    }
+
+    // Internals
+
+    @SuppressWarnings("unchecked")
+    static <T> Try<T> failure() {
+        return (Try<T>) Empty.FAILURE;
+    }
+
+    private Object readResolve() {
+        return INSTANCE;
+    }
+
+    private static final class Empty {
+        private static final Try<?> FAILURE = Try.failure(NoValueException.INSTANCE);
+    }
+}
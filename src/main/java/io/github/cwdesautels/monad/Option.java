@@ -0,0 +1,208 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.annotation.Nullable;
+
+import java.io.Serializable;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Serializable optional value with a singleton none.
+ * <p>
+ * Unlike {@link Optional}, some may hold null, and none converts to a shared try failure without allocating.
+ */
+public interface Option<T> extends Serializable {
+
+    // Constructors
+
+    static <T> Option<T> some(@Nullable T value) {
+        return ImmutableSome.of(value);
+    }
+
+    static <T> Option<T> none() {
+        return None.instance();
+    }
+
+    static <T> Option<T> ofNullable(@Nullable T value) {
+        if (value == null) {
+            return none();
+        } else {
+            return some(value);
+        }
+    }
+
+    static <T> Option<T> ofOptional(Optional<T> optional) {
+        Objects.requireNonNull(optional);
+
+        if (optional.isPresent()) {
+            return some(optional.get());
+        } else {
+            return none();
+        }
+    }
+
+    // Behaviour
+
+    T get();
+
+    boolean isSome();
+
+    boolean isNone();
+
+    // Templates
+
+    default <R> Option<R> map(Function<T, R> function) {
+        Objects.requireNonNull(function);
+
+        if (isSome()) {
+            return some(function.apply(get()));
+        } else {
+            return none();
+        }
+    }
+
+    default <R> Option<R> flatMap(Function<T, Option<R>> function) {
+        Objects.requireNonNull(function);
+
+        if (isSome()) {
+            return Objects.requireNonNull(function.apply(get()));
+        } else {
+            return none();
+        }
+    }
+
+    default Option<T> filter(Predicate<T> predicate) {
+        Objects.requireNonNull(predicate);
+
+        if (isSome() && predicate.test(get())) {
+            return this;
+        } else {
+            return none();
+        }
+    }
+
+    default T orElse(T other) {
+        if (isSome()) {
+            return get();
+        } else {
+            return other;
+        }
+    }
+
+    default T orElseGet(Supplier<T> other) {
+        Objects.requireNonNull(other);
+
+        if (isSome()) {
+            return get();
+        } else {
+            return other.get();
+        }
+    }
+
+    default int orElseInt(ToIntFunction<T> mapper, int other) {
+        Objects.requireNonNull(mapper);
+
+        if (isSome()) {
+            return mapper.applyAsInt(get());
+        } else {
+            return other;
+        }
+    }
+
+    default long orElseLong(ToLongFunction<T> mapper, long other) {
+        Objects.requireNonNull(mapper);
+
+        if (isSome()) {
+            return mapper.applyAsLong(get());
+        } else {
+            return other;
+        }
+    }
+
+    default double orElseDouble(ToDoubleFunction<T> mapper, double other) {
+        Objects.requireNonNull(mapper);
+
+        if (isSome()) {
+            return mapper.applyAsDouble(get());
+        } else {
+            return other;
+        }
+    }
+
+    default Option<T> ifSome(Consumer<T> consumer) {
+        Objects.requireNonNull(consumer);
+
+        if (isSome()) {
+            consumer.accept(get());
+        }
+
+        return this;
+    }
+
+    default Option<T> ifNone(Runnable runnable) {
+        Objects.requireNonNull(runnable);
+
+        if (isNone()) {
+            runnable.run();
+        }
+
+        return this;
+    }
+
+    default Try<T> toTry() {
+        if (isSome()) {
+            return Try.success(get());
+        } else {
+            return None.failure();
+        }
+    }
+
+    default <L> Either<L, T> toEither(Supplier<L> left) {
+        Objects.requireNonNull(left);
+
+        if (isSome()) {
+            return Either.right(get());
+        } else {
+            return Either.left(left.get());
+        }
+    }
+
+    default Optional<T> toOptional() {
+        if (isSome()) {
+            return Optional.ofNullable(get());
+        } else {
+            return Optional.empty();
+        }
+    }
+}
@@ -0,0 +1,246 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+
+/**
+ * Fan out of suppliers across an executor, cancelling outstanding work once the outcome is decided.
+ * <p>
+ * Any is decided by the first success, race by the first completion of either kind, and all by the first failure or
+ * the last success.
+ * <p>
+ * Hedging launches a further attempt of the same supplier each time the delay elapses, or as soon as every running
+ * attempt has failed, until {@code maxHedges} extra attempts are in flight.
+ */
+final class Parallel {
+    private Parallel() {
+    }
+
+    static <T> Try<List<T>> all(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        Objects.requireNonNull(suppliers);
+
+        final Object[] values = new Object[suppliers.size()];
+        final AtomicInteger remaining = new AtomicInteger(suppliers.size());
+
+        if (suppliers.isEmpty()) {
+            return Try.success(Collections.emptyList());
+        }
+
+        return fork(executor, suppliers, (index, result, outcome) -> {
+            if (result.isFailure()) {
+                outcome.complete(Try.failure(result.getCause()));
+            } else {
+                values[index] = result.get();
+
+                if (remaining.decrementAndGet() == 0) {
+                    outcome.complete(Try.success(unmodifiableList(values)));
+                }
+            }
+        });
+    }
+
+    static <T> Try<T> any(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        Objects.requireNonNull(suppliers);
+
+        final Throwable[] causes = new Throwable[suppliers.size()];
+        final AtomicInteger remaining = new AtomicInteger(suppliers.size());
+
+        if (suppliers.isEmpty()) {
+            return Try.failure(exhausted(causes));
+        }
+
+        return fork(executor, suppliers, (index, result, outcome) -> {
+            if (result.isSuccess()) {
+                outcome.complete(result);
+            } else {
+                causes[index] = result.getCause();
+
+                if (remaining.decrementAndGet() == 0) {
+                    outcome.complete(Try.failure(exhausted(causes)));
+                }
+            }
+        });
+    }
+
+    static <T> Try<T> race(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        Objects.requireNonNull(suppliers);
+
+        if (suppliers.isEmpty()) {
+            return Try.failure(exhausted(new Throwable[0]));
+        }
+
+        return fork(executor, suppliers, (index, result, outcome) -> outcome.complete(result));
+    }
+
+    static <T> Try<T> hedge(Executor executor, CheckedSupplier<T> supplier, Duration delay, int maxHedges) {
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(supplier);
+        Objects.requireNonNull(delay);
+
+        if (maxHedges < 0) {
+            throw new IllegalArgumentException("maxHedges must not be negative: " + maxHedges);
+        }
+
+        final BlockingQueue<Try<T>> results = new LinkedBlockingQueue<>();
+        final Throwable[] causes = new Throwable[maxHedges + 1];
+        final List<FutureTask<Void>> tasks = new ArrayList<>(causes.length);
+        int failures = 0;
+        boolean launch = true;
+
+        try {
+            while (true) {
+                if (launch && tasks.size() < causes.length) {
+                    final FutureTask<Void> task = new FutureTask<>(() -> results.add(evaluate(supplier)), null);
+
+                    tasks.add(task);
+
+                    try {
+                        executor.execute(task);
+                    } catch (RejectedExecutionException e) {
+                        results.add(Try.failure(e));
+                    }
+                }
+
+                final Try<T> result = tasks.size() < causes.length
+                        ? results.poll(delay.toNanos(), TimeUnit.NANOSECONDS)
+                        : results.take();
+
+                if (result == null) {
+                    launch = true;
+                } else if (result.isSuccess()) {
+                    return result;
+                } else {
+                    causes[failures++] = result.getCause();
+
+                    if (failures == causes.length) {
+                        return Try.failure(exhausted(causes));
+                    }
+
+                    launch = failures == tasks.size();
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return Try.failure(e);
+        } finally {
+            tasks.forEach(task -> task.cancel(true));
+        }
+    }
+
+    private static <T, R> Try<R> fork(Executor executor, List<CheckedSupplier<T>> suppliers, Join<T, R> join) {
+        Objects.requireNonNull(executor);
+
+        final CompletableFuture<Try<R>> outcome = new CompletableFuture<>();
+        final AtomicIntegerArray finished = new AtomicIntegerArray(suppliers.size());
+        final List<FutureTask<Void>> tasks = new ArrayList<>(suppliers.size());
+
+        for (int i = 0; i < suppliers.size(); i++) {
+            final int index = i;
+            final CheckedSupplier<T> supplier = Objects.requireNonNull(suppliers.get(i));
+
+            tasks.add(new FutureTask<>(() -> {
+                final Try<T> result = evaluate(supplier);
+
+                finished.set(index, 1);
+                join.accept(index, result, outcome);
+            }, null));
+        }
+
+        for (int i = 0; i < tasks.size() && !outcome.isDone(); i++) {
+            try {
+                executor.execute(tasks.get(i));
+            } catch (RejectedExecutionException e) {
+                finished.set(i, 1);
+                join.accept(i, Try.failure(e), outcome);
+            }
+        }
+
+        try {
+            return outcome.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+
+            return Try.failure(e);
+        } catch (ExecutionException e) {
+            return Try.failure(e.getCause());
+        } finally {
+            for (int i = 0; i < tasks.size(); i++) {
+                if (finished.get(i) == 0) {
+                    tasks.get(i).cancel(true);
+                }
+            }
+        }
+    }
+
+    private static <T> Try<T> evaluate(CheckedSupplier<T> supplier) {
+        try {
+            return Try.of(supplier);
+        } catch (Throwable t) {
+            return Try.failure(t);
+        }
+    }
+
+    private static NoSuchElementException exhausted(Throwable[] causes) {
+        final NoSuchElementException error = new NoSuchElementException("No supplier succeeded");
+
+        for (Throwable cause : causes) {
+            if (cause != null) {
+                error.addSuppressed(cause);
+            }
+        }
+
+        return error;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> List<T> unmodifiableList(Object[] values) {
+        return Collections.unmodifiableList((List<T>) Arrays.asList(values));
+    }
+
+    @FunctionalInterface
+    private interface Join<T, R> {
+        void accept(int index, Try<T> result, CompletableFuture<Try<R>> outcome);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.CheckedFunction;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+
+/**
+ * Exception translation table, resolving the handler registered for the most specific superclass of a cause.
+ * <p>
+ * Resolution walks the class hierarchy once per exception type and is cached thereafter.
+ */
+public final class Recovery<T> {
+    private final Map<Class<?>, CheckedFunction<Throwable, T>> handlers;
+    private final ClassValue<Optional<CheckedFunction<Throwable, T>>> resolved = new ClassValue<>() {
+        @Override
+        protected Optional<CheckedFunction<Throwable, T>> computeValue(Class<?> type) {
+            for (Class<?> current = type; current != null; current = current.getSuperclass()) {
+                final CheckedFunction<Throwable, T> handler = handlers.get(current);
+
+                if (handler != null) {
+                    return Optional.of(handler);
+                }
+            }
+
+            return Optional.empty();
+        }
+    };
+
+    private Recovery(Map<Class<?>, CheckedFunction<Throwable, T>> handlers) {
+        this.handlers = handlers;
+    }
+
+    // Constructors
+
+    public static <T> Builder<T> builder() {
+        return new Builder<>();
+    }
+
+    // Behaviour
+
+    public Optional<CheckedFunction<Throwable, T>> handlerFor(Throwable cause) {
+        if (cause == null) {
+            return Optional.empty();
+        } else {
+            return resolved.get(cause.getClass());
+        }
+    }
+
+    public static final class Builder<T> {
+        private final Map<Class<?>, CheckedFunction<Throwable, T>> handlers = new LinkedHashMap<>();
+
+        private Builder() {
+        }
+
+        public <X extends Throwable> Builder<T> on(Class<X> type, CheckedFunction<X, T> handler) {
+            Objects.requireNonNull(type);
+            Objects.requireNonNull(handler);
+
+            handlers.put(type, cause -> handler.apply(type.cast(cause)));
+
+            return this;
+        }
+
+        public Recovery<T> build() {
+            return new Recovery<>(Map.copyOf(handlers));
+        }
+    }
+}
@@ -0,0 +1,231 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Success biased result monad with a typed error channel.
+ * <p>
+ * Errors are plain values rather than throwables, so expected failures cost no stack trace. Recover and exchange
+ * follow try semantics, and mapping an error result reuses the same instance.
+ */
+public interface Result<T, E> {
+
+    // Constructors
+
+    static <T, E> Result<T, E> ok(T value) {
+        return ImmutableOk.of(value);
+    }
+
+    static <T, E> Result<T, E> err(E error) {
+        return ImmutableErr.of(error);
+    }
+
+    static <T, E> Result<T, E> fromEither(Either<E, T> either) {
+        Objects.requireNonNull(either);
+
+        if (either.isRight()) {
+            return ok(either.get());
+        } else {
+            return err(either.getLeft());
+        }
+    }
+
+    static <T, E> Result<T, E> fromTry(Try<T> value, Function<Throwable, E> mapper) {
+        Objects.requireNonNull(value);
+        Objects.requireNonNull(mapper);
+
+        if (value.isSuccess()) {
+            return ok(value.get());
+        } else {
+            return err(mapper.apply(value.getCause()));
+        }
+    }
+
+    // Behaviour
+
+    T get();
+
+    E getError();
+
+    boolean isOk();
+
+    boolean isErr();
+
+    // Templates
+
+    @SuppressWarnings("unchecked")
+    default <R> Result<R, E> map(Function<T, R> function) {
+        Objects.requireNonNull(function);
+
+        if (isOk()) {
+            return ok(function.apply(get()));
+        } else {
+            return (Result<R, E>) this;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    default <R> Result<R, E> flatMap(Function<T, Result<R, E>> function) {
+        Objects.requireNonNull(function);
+
+        if (isOk()) {
+            return Objects.requireNonNull(function.apply(get()));
+        } else {
+            return (Result<R, E>) this;
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    default <F> Result<T, F> mapError(Function<E, F> function) {
+        Objects.requireNonNull(function);
+
+        if (isErr()) {
+            return err(function.apply(getError()));
+        } else {
+            return (Result<T, F>) this;
+        }
+    }
+
+    default T orElse(T other) {
+        if (isErr()) {
+            return other;
+        } else {
+            return get();
+        }
+    }
+
+    default T orElseGet(Supplier<T> other) {
+        Objects.requireNonNull(other);
+
+        if (isErr()) {
+            return other.get();
+        } else {
+            return get();
+        }
+    }
+
+    default <X extends Throwable> T orElseThrow(Function<E, X> mapper) throws X {
+        Objects.requireNonNull(mapper);
+
+        if (isErr()) {
+            throw mapper.apply(getError());
+        } else {
+            return get();
+        }
+    }
+
+    default <R> R fold(Function<E, R> errorMapper, Function<T, R> valueMapper) {
+        Objects.requireNonNull(errorMapper);
+        Objects.requireNonNull(valueMapper);
+
+        if (isOk()) {
+            return valueMapper.apply(get());
+        } else {
+            return errorMapper.apply(getError());
+        }
+    }
+
+    default Result<T, E> ifOk(Consumer<T> consumer) {
+        Objects.requireNonNull(consumer);
+
+        if (isOk()) {
+            consumer.accept(get());
+        }
+
+        return this;
+    }
+
+    default Result<T, E> ifErr(Consumer<E> consumer) {
+        Objects.requireNonNull(consumer);
+
+        if (isErr()) {
+            consumer.accept(getError());
+        }
+
+        return this;
+    }
+
+    default Result<T, E> recover(Function<E, T> function) {
+        return recoverWhen(e -> true, function);
+    }
+
+    default Result<T, E> recoverWhen(Predicate<E> predicate, Function<E, T> function) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(function);
+
+        if (isOk() || !predicate.test(getError())) {
+            return this;
+        } else {
+            return ok(function.apply(getError()));
+        }
+    }
+
+    default Result<T, E> exchange(Function<E, Result<T, E>> function) {
+        return exchangeWhen(e -> true, function);
+    }
+
+    default Result<T, E> exchangeWhen(Predicate<E> predicate, Function<E, Result<T, E>> function) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(function);
+
+        if (isOk() || !predicate.test(getError())) {
+            return this;
+        } else {
+            return Objects.requireNonNull(function.apply(getError()));
+        }
+    }
+
+    default Either<E, T> toEither() {
+        if (isOk()) {
+            return Either.right(get());
+        } else {
+            return Either.left(getError());
+        }
+    }
+
+    default Try<T> toTry(Function<E, ? extends Throwable> mapper) {
+        Objects.requireNonNull(mapper);
+
+        if (isOk()) {
+            return Try.success(get());
+        } else {
+            return Try.failure(mapper.apply(getError()));
+        }
+    }
+
+    default Option<T> toOption() {
+        if (isOk()) {
+            return Option.some(get());
+        } else {
+            return Option.none();
+        }
+    }
+}
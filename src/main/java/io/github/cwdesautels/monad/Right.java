@@ -34,6 +34,7 @@ import java.util.NoSuchElementException;
 public interface Right<L, R> extends Either<L, R> {
     @Override
     @Nullable
+    @Value.Parameter
     R right();
 
     @Override
@@ -32,6 +32,7 @@ import org.immutables.value.Value;
 public interface Success<T> extends Try<T> {
     @Override
     @Nullable
+    @Value.Parameter
     T get();
 
     @Override
@@ -28,8 +28,16 @@ import io.github.cwdesautels.function.CheckedFunction;
 import io.github.cwdesautels.function.CheckedRunnable;
 import io.github.cwdesautels.function.CheckedSupplier;
 
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -37,6 +45,9 @@ import java.util.function.Supplier;
 
 /**
  * Eager opinionated try monad.
+ * <p>
+ * Of the parallel forms, {@link #any(Executor, List)} settles with the first success while
+ * {@link #race(Executor, List)} settles with the first supplier to complete, whether it succeeded or failed.
  */
 public interface Try<T> {
 
@@ -45,6 +56,10 @@ public interface Try<T> {
     static <T> Try<T> of(CheckedSupplier<T> supplier) {
         Objects.requireNonNull(supplier);
 
+        if (Deadline.isExceeded()) {
+            return Deadline.exceeded();
+        }
+
         try {
             return success(supplier.get());
         } catch (Exception e) {
@@ -62,16 +77,70 @@ public interface Try<T> {
         });
     }
 
+    static <T> Try<T> hedge(Executor executor, CheckedSupplier<T> supplier, Duration delay, int maxHedges) {
+        return Parallel.hedge(executor, supplier, delay, maxHedges);
+    }
+
+    static <T> Try<T> fromFuture(Future<T> future) {
+        return Futures.fromFuture(future);
+    }
+
+    static <T> CompletableFuture<Try<T>> fromCompletionStage(CompletionStage<T> stage) {
+        return Futures.fromCompletionStage(stage);
+    }
+
+    static <T> Try<List<T>> awaitAll(Collection<? extends Future<T>> futures, Duration timeout) {
+        return Futures.awaitAll(futures, timeout);
+    }
+
+    static <R extends AutoCloseable, T> Try<T> using(CheckedSupplier<R> resource, CheckedFunction<R, T> function) {
+        Objects.requireNonNull(resource);
+        Objects.requireNonNull(function);
+
+        return of(() -> {
+            try (R closeable = resource.get()) {
+                return function.apply(closeable);
+            }
+        });
+    }
+
     static <T> Try<T> success(T value) {
-        return ImmutableSuccess.<T>builder()
-                .get(value)
-                .build();
+        return ImmutableSuccess.of(value);
     }
 
     static <T> Try<T> failure(Throwable error) {
-        return ImmutableFailure.<T>builder()
-                .cause(error)
-                .build();
+        return ImmutableFailure.of(error);
+    }
+
+    static <T> Try<List<T>> all(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        return Parallel.all(executor, suppliers);
+    }
+
+    @SafeVarargs
+    static <T> Try<List<T>> all(Executor executor, CheckedSupplier<T>... suppliers) {
+        return all(executor, Arrays.asList(suppliers));
+    }
+
+    static <T> Try<T> any(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        return Parallel.any(executor, suppliers);
+    }
+
+    @SafeVarargs
+    static <T> Try<T> any(Executor executor, CheckedSupplier<T>... suppliers) {
+        return any(executor, Arrays.asList(suppliers));
+    }
+
+    static <T> Try<T> race(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        return Parallel.race(executor, suppliers);
+    }
+
+    @SafeVarargs
+    static <T> Try<T> race(Executor executor, CheckedSupplier<T>... suppliers) {
+        return race(executor, Arrays.asList(suppliers));
+    }
+
+    static <A> TryFor.Step1<A> For(CheckedSupplier<A> first) {
+        return TryFor.of(first);
     }
 
     // Behaviour
@@ -171,6 +240,22 @@ public interface Try<T> {
         }
     }
 
+    default Try<T> recover(Recovery<T> recovery) {
+        Objects.requireNonNull(recovery);
+
+        if (isSuccess()) {
+            return this;
+        }
+
+        final Optional<CheckedFunction<Throwable, T>> handler = recovery.handlerFor(getCause());
+
+        if (handler.isPresent()) {
+            return recover(handler.get());
+        } else {
+            return this;
+        }
+    }
+
     default Try<T> exchange(CheckedFunction<Throwable, Try<T>> function) {
         return exchangeWhen(t -> true, function);
     }
@@ -188,6 +273,22 @@ public interface Try<T> {
         }
     }
 
+    default Try<T> exchange(Recovery<Try<T>> recovery) {
+        Objects.requireNonNull(recovery);
+
+        if (isSuccess()) {
+            return this;
+        }
+
+        final Optional<CheckedFunction<Throwable, Try<T>>> handler = recovery.handlerFor(getCause());
+
+        if (handler.isPresent()) {
+            return exchange(handler.get());
+        } else {
+            return this;
+        }
+    }
+
     default Either<Throwable, T> toEither() {
         if (isSuccess()) {
             return Either.right(get());
@@ -196,6 +297,10 @@ public interface Try<T> {
         }
     }
 
+    default CompletableFuture<T> toCompletableFuture() {
+        return Futures.toCompletableFuture(this);
+    }
+
     default Optional<T> toOptional() {
         if (isSuccess()) {
             return Optional.ofNullable(get());
@@ -203,4 +308,12 @@ public interface Try<T> {
             return Optional.empty();
         }
     }
+
+    default Option<T> toOption() {
+        if (isSuccess()) {
+            return Option.some(get());
+        } else {
+            return Option.none();
+        }
+    }
 }
@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.function.CheckedSupplier;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Mutable, thread confined try holder reused across evaluations in tight loops.
+ * <p>
+ * Each run overwrites the previous outcome without allocating; {@link #freeze()} captures the current outcome as an
+ * immutable {@link Try} when one is needed.
+ */
+public final class TryCursor<T> {
+    private T value;
+    private Throwable cause;
+    private boolean success;
+    private boolean evaluated;
+
+    // Constructors
+
+    public static <T> TryCursor<T> create() {
+        return new TryCursor<>();
+    }
+
+    // Behaviour
+
+    public TryCursor<T> run(CheckedSupplier<T> supplier) {
+        Objects.requireNonNull(supplier);
+
+        if (Deadline.isExceeded()) {
+            return fail(DeadlineExceededException.INSTANCE);
+        }
+
+        try {
+            return succeed(supplier.get());
+        } catch (Exception e) {
+            return fail(e);
+        }
+    }
+
+    public <I> TryCursor<T> apply(CheckedFunction<I, T> function, I input) {
+        Objects.requireNonNull(function);
+
+        if (Deadline.isExceeded()) {
+            return fail(DeadlineExceededException.INSTANCE);
+        }
+
+        try {
+            return succeed(function.apply(input));
+        } catch (Exception e) {
+            return fail(e);
+        }
+    }
+
+    public boolean isSuccess() {
+        return evaluated && success;
+    }
+
+    public boolean isFailure() {
+        return evaluated && !success;
+    }
+
+    public T get() {
+        if (isSuccess()) {
+            return value;
+        } else if (evaluated) {
+            throw new RuntimeException(cause);
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    public Throwable getCause() {
+        if (isFailure()) {
+            return cause;
+        } else {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    public T orElse(T other) {
+        if (isSuccess()) {
+            return value;
+        } else {
+            return other;
+        }
+    }
+
+    public Try<T> freeze() {
+        if (isSuccess()) {
+            return Try.success(value);
+        } else if (evaluated) {
+            return Try.failure(cause);
+        } else {
+            throw new NoSuchElementException();
+        }
+    }
+
+    // Internals
+
+    private TryCursor<T> succeed(T result) {
+        value = result;
+        cause = null;
+        success = true;
+        evaluated = true;
+
+        return this;
+    }
+
+    private TryCursor<T> fail(Throwable error) {
+        value = null;
+        cause = error;
+        success = false;
+        evaluated = true;
+
+        return this;
+    }
+}
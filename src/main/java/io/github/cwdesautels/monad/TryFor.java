@@ -0,0 +1,245 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.function.CheckedFunction2;
+import io.github.cwdesautels.function.CheckedFunction3;
+import io.github.cwdesautels.function.CheckedFunction4;
+import io.github.cwdesautels.function.CheckedFunction5;
+import io.github.cwdesautels.function.CheckedFunction6;
+import io.github.cwdesautels.function.CheckedSupplier;
+
+import java.util.Objects;
+
+/**
+ * Fused for comprehension over dependent try steps.
+ * <p>
+ * Steps only record their functions, yield runs them in sequence inside a single {@link Try#of} boundary, so the
+ * chain allocates its result and nothing in between. Unlike {@link EitherFor}, steps return plain values and fail by
+ * throwing, as failures are exceptions in a try.
+ */
+public final class TryFor {
+
+    private TryFor() {
+    }
+
+    // Constructors
+
+    static <A> Step1<A> of(CheckedSupplier<A> first) {
+        return new Step1<>(Objects.requireNonNull(first));
+    }
+
+    public static final class Step1<A> {
+        private final CheckedSupplier<A> first;
+
+        private Step1(CheckedSupplier<A> first) {
+            this.first = first;
+        }
+
+        public <B> Step2<A, B> then(CheckedFunction<A, B> second) {
+            Objects.requireNonNull(second);
+
+            return new Step2<>(first, second);
+        }
+
+        public <R> Try<R> yield(CheckedFunction<A, R> function) {
+            Objects.requireNonNull(function);
+
+            return Try.of(() -> function.apply(first.get()));
+        }
+    }
+
+    public static final class Step2<A, B> {
+        private final CheckedSupplier<A> first;
+        private final CheckedFunction<A, B> second;
+
+        private Step2(CheckedSupplier<A> first, CheckedFunction<A, B> second) {
+            this.first = first;
+            this.second = second;
+        }
+
+        public <C> Step3<A, B, C> then(CheckedFunction2<A, B, C> third) {
+            Objects.requireNonNull(third);
+
+            return new Step3<>(first, second, third);
+        }
+
+        public <R> Try<R> yield(CheckedFunction2<A, B, R> function) {
+            Objects.requireNonNull(function);
+
+            return Try.of(() -> {
+                final A a = first.get();
+                final B b = second.apply(a);
+
+                return function.apply(a, b);
+            });
+        }
+    }
+
+    public static final class Step3<A, B, C> {
+        private final CheckedSupplier<A> first;
+        private final CheckedFunction<A, B> second;
+        private final CheckedFunction2<A, B, C> third;
+
+        private Step3(CheckedSupplier<A> first, CheckedFunction<A, B> second, CheckedFunction2<A, B, C> third) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+        }
+
+        public <D> Step4<A, B, C, D> then(CheckedFunction3<A, B, C, D> fourth) {
+            Objects.requireNonNull(fourth);
+
+            return new Step4<>(first, second, third, fourth);
+        }
+
+        public <R> Try<R> yield(CheckedFunction3<A, B, C, R> function) {
+            Objects.requireNonNull(function);
+
+            return Try.of(() -> {
+                final A a = first.get();
+                final B b = second.apply(a);
+                final C c = third.apply(a, b);
+
+                return function.apply(a, b, c);
+            });
+        }
+    }
+
+    public static final class Step4<A, B, C, D> {
+        private final CheckedSupplier<A> first;
+        private final CheckedFunction<A, B> second;
+        private final CheckedFunction2<A, B, C> third;
+        private final CheckedFunction3<A, B, C, D> fourth;
+
+        private Step4(CheckedSupplier<A> first,
+                      CheckedFunction<A, B> second,
+                      CheckedFunction2<A, B, C> third,
+                      CheckedFunction3<A, B, C, D> fourth) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.fourth = fourth;
+        }
+
+        public <E> Step5<A, B, C, D, E> then(CheckedFunction4<A, B, C, D, E> fifth) {
+            Objects.requireNonNull(fifth);
+
+            return new Step5<>(first, second, third, fourth, fifth);
+        }
+
+        public <R> Try<R> yield(CheckedFunction4<A, B, C, D, R> function) {
+            Objects.requireNonNull(function);
+
+            return Try.of(() -> {
+                final A a = first.get();
+                final B b = second.apply(a);
+                final C c = third.apply(a, b);
+                final D d = fourth.apply(a, b, c);
+
+                return function.apply(a, b, c, d);
+            });
+        }
+    }
+
+    public static final class Step5<A, B, C, D, E> {
+        private final CheckedSupplier<A> first;
+        private final CheckedFunction<A, B> second;
+        private final CheckedFunction2<A, B, C> third;
+        private final CheckedFunction3<A, B, C, D> fourth;
+        private final CheckedFunction4<A, B, C, D, E> fifth;
+
+        private Step5(CheckedSupplier<A> first,
+                      CheckedFunction<A, B> second,
+                      CheckedFunction2<A, B, C> third,
+                      CheckedFunction3<A, B, C, D> fourth,
+                      CheckedFunction4<A, B, C, D, E> fifth) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.fourth = fourth;
+            this.fifth = fifth;
+        }
+
+        public <F> Step6<A, B, C, D, E, F> then(CheckedFunction5<A, B, C, D, E, F> sixth) {
+            Objects.requireNonNull(sixth);
+
+            return new Step6<>(first, second, third, fourth, fifth, sixth);
+        }
+
+        public <R> Try<R> yield(CheckedFunction5<A, B, C, D, E, R> function) {
+            Objects.requireNonNull(function);
+
+            return Try.of(() -> {
+                final A a = first.get();
+                final B b = second.apply(a);
+                final C c = third.apply(a, b);
+                final D d = fourth.apply(a, b, c);
+                final E e = fifth.apply(a, b, c, d);
+
+                return function.apply(a, b, c, d, e);
+            });
+        }
+    }
+
+    public static final class Step6<A, B, C, D, E, F> {
+        private final CheckedSupplier<A> first;
+        private final CheckedFunction<A, B> second;
+        private final CheckedFunction2<A, B, C> third;
+        private final CheckedFunction3<A, B, C, D> fourth;
+        private final CheckedFunction4<A, B, C, D, E> fifth;
+        private final CheckedFunction5<A, B, C, D, E, F> sixth;
+
+        private Step6(CheckedSupplier<A> first,
+                      CheckedFunction<A, B> second,
+                      CheckedFunction2<A, B, C> third,
+                      CheckedFunction3<A, B, C, D> fourth,
+                      CheckedFunction4<A, B, C, D, E> fifth,
+                      CheckedFunction5<A, B, C, D, E, F> sixth) {
+            this.first = first;
+            this.second = second;
+            this.third = third;
+            this.fourth = fourth;
+            this.fifth = fifth;
+            this.sixth = sixth;
+        }
+
+        public <R> Try<R> yield(CheckedFunction6<A, B, C, D, E, F, R> function) {
+            Objects.requireNonNull(function);
+
+            return Try.of(() -> {
+                final A a = first.get();
+                final B b = second.apply(a);
+                final C c = third.apply(a, b);
+                final D d = fourth.apply(a, b, c);
+                final E e = fifth.apply(a, b, c, d);
+                final F f = sixth.apply(a, b, c, d, e);
+
+                return function.apply(a, b, c, d, e, f);
+            });
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.processor;
+
+import io.github.cwdesautels.annotation.EitherAdapter;
+import io.github.cwdesautels.annotation.TryAdapter;
+
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.Modifier;
+import javax.lang.model.element.PackageElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.element.TypeParameterElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.ExecutableType;
+import javax.lang.model.type.PrimitiveType;
+import javax.lang.model.type.TypeKind;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Generates reflection free try and either adapters for annotated interfaces.
+ * <p>
+ * Each adapter is a plain final class wrapping a delegate, with one method per interface method routed through
+ * {@code Try.of}, so adapted calls inline like direct calls.
+ */
+public final class AdapterProcessor extends AbstractProcessor {
+    private static final String TRY = "io.github.cwdesautels.monad.Try";
+    private static final String EITHER = "io.github.cwdesautels.monad.Either";
+
+    @Override
+    public Set<String> getSupportedAnnotationTypes() {
+        return Set.of(TryAdapter.class.getCanonicalName(), EitherAdapter.class.getCanonicalName());
+    }
+
+    @Override
+    public SourceVersion getSupportedSourceVersion() {
+        return SourceVersion.latestSupported();
+    }
+
+    @Override
+    public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment round) {
+        for (Element element : round.getElementsAnnotatedWith(TryAdapter.class)) {
+            generate(element, "Try");
+        }
+
+        for (Element element : round.getElementsAnnotatedWith(EitherAdapter.class)) {
+            generate(element, "Either");
+        }
+
+        return true;
+    }
+
+    // Internals
+
+    private void generate(Element element, String suffix) {
+        if (element.getKind() != ElementKind.INTERFACE) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Only interfaces can be adapted", element);
+
+            return;
+        }
+
+        final TypeElement type = (TypeElement) element;
+
+        if (!isAdaptable(type)) {
+            return;
+        }
+
+        final String packageName = processingEnv.getElementUtils().getPackageOf(type).getQualifiedName().toString();
+        final String adapterName = flatName(type) + suffix;
+
+        try (Writer writer = processingEnv.getFiler().createSourceFile(qualify(packageName, adapterName), type).openWriter()) {
+            writer.write(source(type, packageName, adapterName, suffix.equals("Either")));
+        } catch (IOException e) {
+            processingEnv.getMessager()
+                    .printMessage(Diagnostic.Kind.ERROR, "Unable to write adapter: " + e.getMessage(), element);
+        }
+    }
+
+    private String source(TypeElement type, String packageName, String adapterName, boolean either) {
+        final DeclaredType declared = (DeclaredType) type.asType();
+        final String typeParameters = typeParameters(type.getTypeParameters());
+        final String delegateType = declared.toString();
+        final StringBuilder source = new StringBuilder();
+
+        if (!packageName.isEmpty()) {
+            source.append("package ").append(packageName).append(";\n\n");
+        }
+
+        source.append("@javax.annotation.processing.Generated(\"").append(AdapterProcessor.class.getName()).append("\")\n")
+                .append("public final class ").append(adapterName).append(typeParameters).append(" {\n")
+                .append("    private final ").append(delegateType).append(" delegate;\n\n")
+                .append("    public ").append(adapterName).append("(").append(delegateType).append(" delegate) {\n")
+                .append("        this.delegate = java.util.Objects.requireNonNull(delegate);\n")
+                .append("    }\n");
+
+        final Set<String> signatures = new LinkedHashSet<>();
+
+        for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+            if (!isAdapted(member)) {
+                continue;
+            }
+
+            final ExecutableElement method = (ExecutableElement) member;
+            final ExecutableType resolved = (ExecutableType) processingEnv.getTypeUtils().asMemberOf(declared, method);
+
+            if (signatures.add(method.getSimpleName() + resolved.getParameterTypes().toString())) {
+                source.append("\n");
+                method(source, method, resolved, either);
+            }
+        }
+
+        return source.append("}\n").toString();
+    }
+
+    private void method(StringBuilder source, ExecutableElement method, ExecutableType resolved, boolean either) {
+        final List<? extends TypeMirror> parameterTypes = resolved.getParameterTypes();
+        final String value = boxed(resolved.getReturnType());
+        final StringBuilder parameters = new StringBuilder();
+        final StringBuilder arguments = new StringBuilder();
+
+        for (int i = 0; i < parameterTypes.size(); i++) {
+            final String name = method.getParameters().get(i).getSimpleName().toString();
+            String parameterType = parameterTypes.get(i).toString();
+
+            if (method.isVarArgs() && i == parameterTypes.size() - 1) {
+                parameterType = parameterType.substring(0, parameterType.length() - 2) + "...";
+            }
+
+            if (i > 0) {
+                parameters.append(", ");
+                arguments.append(", ");
+            }
+
+            parameters.append("final ").append(parameterType).append(" ").append(name);
+            arguments.append(name);
+        }
+
+        final String call = "this.delegate." + method.getSimpleName() + "(" + arguments + ")";
+        final String result = either
+                ? EITHER + "<java.lang.Throwable, " + value + ">"
+                : TRY + "<" + value + ">";
+        final String typeParameters = typeParameters(method.getTypeParameters());
+
+        source.append("    public ").append(typeParameters.isEmpty() ? "" : typeParameters + " ")
+                .append(result).append(" ").append(method.getSimpleName())
+                .append("(").append(parameters).append(") {\n")
+                .append("        return ").append(TRY);
+
+        if (resolved.getReturnType().getKind() == TypeKind.VOID) {
+            source.append(".ofRunnable(() -> ").append(call).append(")");
+        } else {
+            source.append(".<").append(value).append(">of(() -> ").append(call).append(")");
+        }
+
+        source.append(either ? ".toEither();\n" : ";\n")
+                .append("    }\n");
+    }
+
+    private boolean isAdaptable(TypeElement type) {
+        final TypeMirror exception = processingEnv.getElementUtils().getTypeElement("java.lang.Exception").asType();
+        final TypeMirror error = processingEnv.getElementUtils().getTypeElement("java.lang.Error").asType();
+        boolean adaptable = true;
+
+        for (Element member : processingEnv.getElementUtils().getAllMembers(type)) {
+            if (!isAdapted(member)) {
+                continue;
+            }
+
+            for (TypeMirror thrown : ((ExecutableElement) member).getThrownTypes()) {
+                if (!processingEnv.getTypeUtils().isAssignable(thrown, exception)
+                        && !processingEnv.getTypeUtils().isAssignable(thrown, error)) {
+                    processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR,
+                            "Adapted methods may only throw exceptions, not " + thrown, member);
+
+                    adaptable = false;
+                }
+            }
+        }
+
+        return adaptable;
+    }
+
+    private String boxed(TypeMirror type) {
+        if (type.getKind() == TypeKind.VOID) {
+            return "java.lang.Void";
+        } else if (type.getKind().isPrimitive()) {
+            return processingEnv.getTypeUtils().boxedClass((PrimitiveType) type).getQualifiedName().toString();
+        } else {
+            return type.toString();
+        }
+    }
+
+    private static String typeParameters(List<? extends TypeParameterElement> parameters) {
+        if (parameters.isEmpty()) {
+            return "";
+        }
+
+        return parameters.stream()
+                .map(parameter -> {
+                    final String bounds = parameter.getBounds().stream()
+                            .map(TypeMirror::toString)
+                            .filter(bound -> !bound.equals("java.lang.Object"))
+                            .collect(Collectors.joining(" & "));
+
+                    return bounds.isEmpty() ? parameter.toString() : parameter + " extends " + bounds;
+                })
+                .collect(Collectors.joining(", ", "<", ">"));
+    }
+
+    private static boolean isAdapted(Element member) {
+        return member.getKind() == ElementKind.METHOD
+                && !member.getModifiers().contains(Modifier.STATIC)
+                && !member.getModifiers().contains(Modifier.PRIVATE)
+                && !isObjectMethod(member);
+    }
+
+    private static boolean isObjectMethod(Element method) {
+        final Element owner = method.getEnclosingElement();
+
+        return owner instanceof TypeElement
+                && ((TypeElement) owner).getQualifiedName().contentEquals("java.lang.Object");
+    }
+
+    private static String flatName(TypeElement type) {
+        final Element enclosing = type.getEnclosingElement();
+
+        if (enclosing instanceof PackageElement) {
+            return type.getSimpleName().toString();
+        } else {
+            return flatName((TypeElement) enclosing) + "_" + type.getSimpleName();
+        }
+    }
+
+    private static String qualify(String packageName, String name) {
+        return packageName.isEmpty() ? name : packageName + "." + name;
+    }
+}
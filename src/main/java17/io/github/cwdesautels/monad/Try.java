@@ -0,0 +1,319 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.function.CheckedRunnable;
+import io.github.cwdesautels.function.CheckedSupplier;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionStage;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Eager opinionated try monad.
+ * <p>
+ * Of the parallel forms, {@link #any(Executor, List)} settles with the first success while
+ * {@link #race(Executor, List)} settles with the first supplier to complete, whether it succeeded or failed.
+ */
+public sealed interface Try<T> permits Success, Failure {
+
+    // Constructors
+
+    static <T> Try<T> of(CheckedSupplier<T> supplier) {
+        Objects.requireNonNull(supplier);
+
+        if (Deadline.isExceeded()) {
+            return Deadline.exceeded();
+        }
+
+        try {
+            return success(supplier.get());
+        } catch (Exception e) {
+            return failure(e);
+        }
+    }
+
+    static Try<Void> ofRunnable(CheckedRunnable runnable) {
+        Objects.requireNonNull(runnable);
+
+        return of(() -> {
+            runnable.run();
+
+            return null;
+        });
+    }
+
+    static <T> Try<T> hedge(Executor executor, CheckedSupplier<T> supplier, Duration delay, int maxHedges) {
+        return Parallel.hedge(executor, supplier, delay, maxHedges);
+    }
+
+    static <T> Try<T> fromFuture(Future<T> future) {
+        return Futures.fromFuture(future);
+    }
+
+    static <T> CompletableFuture<Try<T>> fromCompletionStage(CompletionStage<T> stage) {
+        return Futures.fromCompletionStage(stage);
+    }
+
+    static <T> Try<List<T>> awaitAll(Collection<? extends Future<T>> futures, Duration timeout) {
+        return Futures.awaitAll(futures, timeout);
+    }
+
+    static <R extends AutoCloseable, T> Try<T> using(CheckedSupplier<R> resource, CheckedFunction<R, T> function) {
+        Objects.requireNonNull(resource);
+        Objects.requireNonNull(function);
+
+        return of(() -> {
+            try (R closeable = resource.get()) {
+                return function.apply(closeable);
+            }
+        });
+    }
+
+    static <T> Try<T> success(T value) {
+        return new SuccessRecord<>(value);
+    }
+
+    static <T> Try<T> failure(Throwable error) {
+        return new FailureRecord<>(error);
+    }
+
+    static <T> Try<List<T>> all(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        return Parallel.all(executor, suppliers);
+    }
+
+    @SafeVarargs
+    static <T> Try<List<T>> all(Executor executor, CheckedSupplier<T>... suppliers) {
+        return all(executor, Arrays.asList(suppliers));
+    }
+
+    static <T> Try<T> any(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        return Parallel.any(executor, suppliers);
+    }
+
+    @SafeVarargs
+    static <T> Try<T> any(Executor executor, CheckedSupplier<T>... suppliers) {
+        return any(executor, Arrays.asList(suppliers));
+    }
+
+    static <T> Try<T> race(Executor executor, List<CheckedSupplier<T>> suppliers) {
+        return Parallel.race(executor, suppliers);
+    }
+
+    @SafeVarargs
+    static <T> Try<T> race(Executor executor, CheckedSupplier<T>... suppliers) {
+        return race(executor, Arrays.asList(suppliers));
+    }
+
+    static <A> TryFor.Step1<A> For(CheckedSupplier<A> first) {
+        return TryFor.of(first);
+    }
+
+    // Behaviour
+
+    T get();
+
+    Throwable getCause();
+
+    boolean isSuccess();
+
+    boolean isFailure();
+
+    // Templates
+
+    default <R> Try<R> map(CheckedFunction<T, R> function) {
+        Objects.requireNonNull(function);
+
+        if (isSuccess()) {
+            return of(() -> function.apply(get()));
+        } else {
+            return failure(getCause());
+        }
+    }
+
+    default <R> Try<R> flatMap(CheckedFunction<T, Try<R>> function) {
+        Objects.requireNonNull(function);
+
+        if (isSuccess()) {
+            return of(() -> function.apply(get()))
+                    .map(Objects::requireNonNull)
+                    .map(Try::get);
+        } else {
+            return failure(getCause());
+        }
+    }
+
+    default T orElse(T other) {
+        if (isFailure()) {
+            return other;
+        } else {
+            return get();
+        }
+    }
+
+    default T orElseGet(Supplier<T> other) {
+        Objects.requireNonNull(other);
+
+        if (isFailure()) {
+            return other.get();
+        } else {
+            return get();
+        }
+    }
+
+    default <X extends Throwable> T orElseThrow(Function<Throwable, X> mapper) throws X {
+        Objects.requireNonNull(mapper);
+
+        if (isFailure()) {
+            throw mapper.apply(getCause());
+        } else {
+            return get();
+        }
+    }
+
+    default Try<T> ifSuccess(Consumer<T> consumer) {
+        Objects.requireNonNull(consumer);
+
+        if (isSuccess()) {
+            consumer.accept(get());
+        }
+
+        return this;
+    }
+
+    default Try<T> ifFailure(Consumer<Throwable> consumer) {
+        Objects.requireNonNull(consumer);
+
+        if (isFailure()) {
+            consumer.accept(getCause());
+        }
+
+        return this;
+    }
+
+    default Try<T> recover(CheckedFunction<Throwable, T> function) {
+        return recoverWhen(t -> true, function);
+    }
+
+    default Try<T> recoverWhen(Predicate<Throwable> predicate, CheckedFunction<Throwable, T> function) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(function);
+
+        if (isSuccess() || !predicate.test(getCause())) {
+            return this;
+        } else {
+            return of(() -> function.apply(getCause()));
+        }
+    }
+
+    default Try<T> recover(Recovery<T> recovery) {
+        Objects.requireNonNull(recovery);
+
+        if (isSuccess()) {
+            return this;
+        }
+
+        final Optional<CheckedFunction<Throwable, T>> handler = recovery.handlerFor(getCause());
+
+        if (handler.isPresent()) {
+            return recover(handler.get());
+        } else {
+            return this;
+        }
+    }
+
+    default Try<T> exchange(CheckedFunction<Throwable, Try<T>> function) {
+        return exchangeWhen(t -> true, function);
+    }
+
+    default Try<T> exchangeWhen(Predicate<Throwable> predicate, CheckedFunction<Throwable, Try<T>> function) {
+        Objects.requireNonNull(predicate);
+        Objects.requireNonNull(function);
+
+        if (isSuccess() || !predicate.test(getCause())) {
+            return this;
+        } else {
+            return of(() -> function.apply(getCause()))
+                    .map(Objects::requireNonNull)
+                    .map(Try::get);
+        }
+    }
+
+    default Try<T> exchange(Recovery<Try<T>> recovery) {
+        Objects.requireNonNull(recovery);
+
+        if (isSuccess()) {
+            return this;
+        }
+
+        final Optional<CheckedFunction<Throwable, Try<T>>> handler = recovery.handlerFor(getCause());
+
+        if (handler.isPresent()) {
+            return exchange(handler.get());
+        } else {
+            return this;
+        }
+    }
+
+    default Either<Throwable, T> toEither() {
+        if (isSuccess()) {
+            return Either.right(get());
+        } else {
+            return Either.left(getCause());
+        }
+    }
+
+    default CompletableFuture<T> toCompletableFuture() {
+        return Futures.toCompletableFuture(this);
+    }
+
+    default Optional<T> toOptional() {
+        if (isSuccess()) {
+            return Optional.ofNullable(get());
+        } else {
+            return Optional.empty();
+        }
+    }
+
+    default Option<T> toOption() {
+        if (isSuccess()) {
+            return Option.some(get());
+        } else {
+            return Option.none();
+        }
+    }
+}
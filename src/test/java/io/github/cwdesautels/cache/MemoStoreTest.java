@@ -0,0 +1,180 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.cache;
+
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.cwdesautels.monad.Try.success;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class MemoStoreTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void shallReuseSuccessAcrossRestarts() throws IOException {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable())) {
+            store.get("key", () -> value);
+        }
+
+        // When
+        final Try<UUID> actual;
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable())) {
+            actual = store.get("key", () -> fail());
+        }
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallReadRecordsWrittenAfterOpen() throws IOException {
+        // Given
+        final UUID first = randomUUID();
+        final UUID second = randomUUID();
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable())) {
+            store.get("first", () -> first);
+            store.get("first", () -> fail());
+            store.get("second", () -> second);
+
+            // When
+            final Try<UUID> actualFirst = store.get("first", () -> fail());
+            final Try<UUID> actualSecond = store.get("second", () -> fail());
+
+            // Then
+            assertEquals(success(first), actualFirst);
+            assertEquals(success(second), actualSecond);
+        }
+    }
+
+    @Test
+    void shallNotRecordFailureByDefault() throws IOException {
+        // Given
+        final AtomicInteger calls = new AtomicInteger();
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable())) {
+            // When
+            store.get("key", () -> {
+                calls.incrementAndGet();
+                throw new IOException("I broke :(");
+            });
+            store.get("key", () -> {
+                calls.incrementAndGet();
+                throw new IOException("I broke :(");
+            });
+
+            // Then
+            assertFalse(store.contains("key"));
+            assertEquals(2, calls.get());
+        }
+    }
+
+    @Test
+    void shallRecordFailureWhenFailureCodecProvided() throws IOException {
+        // Given
+        final IOException error = new IOException("I broke :(");
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable(), Codec.serializable())) {
+            store.get("key", () -> {
+                throw error;
+            });
+        }
+
+        // When
+        final Try<UUID> actual;
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable(), Codec.serializable())) {
+            actual = store.get("key", () -> fail());
+        }
+
+        // Then
+        assertTrue(actual.isFailure());
+        assertEquals(error.getClass(), actual.getCause().getClass());
+        assertEquals(error.getMessage(), actual.getCause().getMessage());
+    }
+
+    @Test
+    void shallDropFailureOnCompactionWhenNotRecorded() throws IOException {
+        // Given
+        final UUID value = randomUUID();
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable(), Codec.serializable())) {
+            store.get("key", () -> {
+                throw new IOException("I broke :(");
+            });
+        }
+
+        // When
+        final Try<UUID> actual;
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable())) {
+            assertEquals(0, store.size());
+            actual = store.get("key", () -> value);
+        }
+
+        // Then
+        assertEquals(success(value), actual);
+    }
+
+    @Test
+    void shallDiscardTornWriteOnCompaction() throws IOException {
+        // Given
+        final UUID value = randomUUID();
+        final Path data = directory.resolve("memo.dat");
+
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable())) {
+            store.get("key", () -> value);
+        }
+
+        final long size = Files.size(data);
+        Files.write(data, new byte[]{0, 0, 0, 9, 1}, StandardOpenOption.APPEND);
+
+        // When
+        try (MemoStore<UUID> store = MemoStore.open(directory, Codec.serializable())) {
+            // Then
+            assertEquals(size, Files.size(data));
+            assertEquals(success(value), store.get("key", () -> fail()));
+        }
+    }
+}
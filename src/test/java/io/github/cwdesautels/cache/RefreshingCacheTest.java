@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.cache;
+
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RefreshingCacheTest {
+    private static final Executor DIRECT = Runnable::run;
+
+    @Test
+    void shallLoadOnMiss() {
+        // Given
+        final UUID expected = randomUUID();
+        final RefreshingCache<String, UUID> cache = RefreshingCache.<String, UUID>builder(key -> expected, DIRECT)
+                .build();
+
+        // When
+        final Try<Cached<UUID>> actual = cache.get("key");
+
+        // Then
+        assertTrue(actual.isSuccess());
+        assertEquals(expected, actual.get().value());
+        assertFalse(actual.get().stale());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void shallRefreshAhead() {
+        // Given
+        final AtomicInteger loads = new AtomicInteger();
+        final RefreshingCache<String, Integer> cache = RefreshingCache.<String, Integer>builder(key -> loads.incrementAndGet(), DIRECT)
+                .refreshAfter(Duration.ZERO)
+                .build();
+
+        cache.get("key");
+
+        // When
+        final Try<Cached<Integer>> served = cache.get("key");
+        final Try<Cached<Integer>> refreshed = cache.get("key");
+
+        // Then
+        assertEquals(1, served.get().value());
+        assertTrue(served.get().stale());
+        assertEquals(2, refreshed.get().value());
+    }
+
+    @Test
+    void shallServeLastSuccessWhenRefreshFails() {
+        // Given
+        final UUID expected = randomUUID();
+        final AtomicInteger loads = new AtomicInteger();
+        final RefreshingCache<String, UUID> cache = RefreshingCache.<String, UUID>builder(key -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IOException("I broke :(");
+            }
+
+            return expected;
+        }, DIRECT)
+                .refreshAfter(Duration.ZERO)
+                .retryAfter(Duration.ZERO)
+                .build();
+
+        cache.get("key");
+
+        // When
+        cache.get("key");
+        final Try<Cached<UUID>> actual = cache.get("key");
+
+        // Then
+        assertTrue(actual.isSuccess());
+        assertEquals(expected, actual.get().value());
+        assertTrue(actual.get().stale());
+        assertEquals(3, loads.get());
+    }
+
+    @Test
+    void shallBackOffAfterFailedRefresh() {
+        // Given
+        final AtomicInteger loads = new AtomicInteger();
+        final RefreshingCache<String, Integer> cache = RefreshingCache.<String, Integer>builder(key -> {
+            if (loads.incrementAndGet() > 1) {
+                throw new IOException("I broke :(");
+            }
+
+            return 1;
+        }, DIRECT)
+                .refreshAfter(Duration.ZERO)
+                .retryAfter(Duration.ofMinutes(1))
+                .build();
+
+        cache.get("key");
+
+        // When
+        cache.get("key");
+        cache.get("key");
+        final Try<Cached<Integer>> actual = cache.get("key");
+
+        // Then
+        assertEquals(1, actual.get().value());
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    void shallShareConcurrentLoads() throws InterruptedException {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger loads = new AtomicInteger();
+        final RefreshingCache<String, Integer> cache = RefreshingCache.<String, Integer>builder(key -> {
+            started.countDown();
+            release.await();
+
+            return loads.incrementAndGet();
+        }, DIRECT)
+                .build();
+        final List<Try<Cached<Integer>>> results = new CopyOnWriteArrayList<>();
+        final Thread first = new Thread(() -> results.add(cache.get("key")));
+        final Thread second = new Thread(() -> results.add(cache.get("key")));
+
+        // When
+        first.start();
+        assertTrue(started.await(1, TimeUnit.MINUTES));
+        second.start();
+
+        while (second.getState() != Thread.State.WAITING) {
+            Thread.onSpinWait();
+        }
+
+        release.countDown();
+        first.join();
+        second.join();
+
+        // Then
+        assertEquals(1, loads.get());
+        assertEquals(2, results.size());
+        assertTrue(results.stream().allMatch(result -> result.get().value() == 1));
+    }
+
+    @Test
+    void shallFailBeyondMaxStaleness() {
+        // Given
+        final IOException expected = new IOException("I broke :(");
+        final AtomicInteger loads = new AtomicInteger();
+        final RefreshingCache<String, UUID> cache = RefreshingCache.<String, UUID>builder(key -> {
+            if (loads.incrementAndGet() > 1) {
+                throw expected;
+            }
+
+            return randomUUID();
+        }, DIRECT)
+                .refreshAfter(Duration.ZERO)
+                .maxStaleness(Duration.ZERO)
+                .build();
+
+        cache.get("key");
+
+        // When
+        final Try<Cached<UUID>> actual = cache.get("key");
+
+        // Then
+        assertTrue(actual.isFailure());
+        assertSame(expected, actual.getCause());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    void shallRejectStalenessShorterThanRefresh() {
+        // Given
+        final RefreshingCache.Builder<String, UUID> builder = RefreshingCache.<String, UUID>builder(key -> randomUUID(), DIRECT)
+                .refreshAfter(Duration.ofMinutes(2))
+                .maxStaleness(Duration.ofMinutes(1));
+
+        // Then
+        assertThrows(IllegalArgumentException.class, builder::build);
+    }
+}
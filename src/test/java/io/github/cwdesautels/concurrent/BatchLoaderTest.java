@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static io.github.cwdesautels.monad.Try.failure;
+import static io.github.cwdesautels.monad.Try.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+class BatchLoaderTest {
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+    private final ExecutorService executor = Executors.newSingleThreadExecutor();
+    private final List<List<Integer>> calls = new CopyOnWriteArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdownNow();
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shallCoalesceWhenBatchIsFull() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this::lookup, scheduler, executor, 3, Duration.ofMinutes(1));
+
+        // When
+        final CompletableFuture<Try<String>> a = loader.loadAsync(1);
+        final CompletableFuture<Try<String>> b = loader.loadAsync(2);
+        final CompletableFuture<Try<String>> c = loader.loadAsync(3);
+
+        // Then
+        assertEquals(success("1"), a.join());
+        assertEquals(success("2"), b.join());
+        assertEquals(success("3"), c.join());
+        assertEquals(List.of(List.of(1, 2, 3)), calls);
+    }
+
+    @Test
+    void shallCoalesceWithinWindow() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(this::lookup, scheduler, executor, 100, Duration.ofMillis(10));
+
+        // When
+        final CompletableFuture<Try<String>> a = loader.loadAsync(1);
+        final CompletableFuture<Try<String>> b = loader.loadAsync(1);
+        final Try<String> c = loader.load(2);
+
+        // Then
+        assertEquals(success("1"), a.join());
+        assertEquals(success("1"), b.join());
+        assertEquals(success("2"), c);
+        assertEquals(List.of(List.of(1, 2)), calls);
+    }
+
+    @Test
+    void shallFailEveryKeyWhenBulkFails() {
+        // Given
+        final IOException error = new IOException("I broke :(");
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> {
+            throw error;
+        }, scheduler, executor, 100, Duration.ofMinutes(1));
+
+        // When
+        final CompletableFuture<Try<String>> a = loader.loadAsync(1);
+        final CompletableFuture<Try<String>> b = loader.loadAsync(2);
+        loader.dispatch();
+
+        // Then
+        assertEquals(failure(error), a.join());
+        assertEquals(failure(error), b.join());
+    }
+
+    @Test
+    void shallFailMissingKey() {
+        // Given
+        final BatchLoader<Integer, String> loader = BatchLoader.of(keys -> Map.of(), scheduler, executor, 1, Duration.ofMinutes(1));
+
+        // When
+        final Try<String> actual = loader.load(1);
+
+        // Then
+        assertEquals(NoSuchElementException.class, actual.getCause().getClass());
+    }
+
+    @Test
+    void shallNotRunBulkCallOnScheduler() throws Exception {
+        // Given
+        final Thread timer = scheduler.submit(Thread::currentThread).get();
+        final BatchLoader<Integer, Thread> loader = BatchLoader.of(keys -> keys.stream()
+                        .collect(Collectors.toMap(Function.identity(), key -> Thread.currentThread())),
+                scheduler, executor, 100, Duration.ofMillis(10));
+
+        // When
+        final Try<Thread> actual = loader.load(1);
+
+        // Then
+        assertNotEquals(timer, actual.get());
+    }
+
+    private Map<Integer, String> lookup(List<Integer> keys) {
+        calls.add(keys);
+
+        return keys.stream().collect(Collectors.toMap(Function.identity(), String::valueOf));
+    }
+}
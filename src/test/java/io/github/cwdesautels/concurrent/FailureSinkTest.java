@@ -0,0 +1,155 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FailureSinkTest {
+    @Test
+    void shallDeliverFailuresInBatches() {
+        // Given
+        final List<List<Throwable>> batches = new CopyOnWriteArrayList<>();
+        final List<Throwable> expected = IntStream.range(0, 100)
+                .mapToObj(i -> new IOException(String.valueOf(i)))
+                .collect(Collectors.toList());
+
+        // When
+        try (FailureSink<Throwable> sink = FailureSink.<Throwable>builder(batches::add).batchSize(10).build()) {
+            expected.forEach(error -> Try.failure(error).ifFailure(sink));
+        }
+
+        // Then
+        assertEquals(expected, batches.stream().flatMap(List::stream).collect(Collectors.toList()));
+        assertTrue(batches.stream().allMatch(batch -> batch.size() <= 10));
+    }
+
+    @Test
+    void shallDropNullFailures() {
+        // Given
+        final List<Throwable> delivered = new CopyOnWriteArrayList<>();
+        final IOException error = new IOException("I broke :(");
+        final FailureSink<Throwable> sink = FailureSink.<Throwable>builder(delivered::addAll).build();
+
+        // When
+        try (sink) {
+            Try.failure(null).ifFailure(sink);
+            Try.failure(error).ifFailure(sink);
+        }
+
+        // Then
+        assertEquals(List.of(error), delivered);
+        assertEquals(1, sink.dropped());
+    }
+
+    @Test
+    void shallDropWhenFull() throws InterruptedException {
+        // Given
+        final CountDownLatch blocked = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        final List<Throwable> delivered = new CopyOnWriteArrayList<>();
+
+        try (FailureSink<Throwable> sink = FailureSink.<Throwable>builder(batch -> {
+            blocked.countDown();
+            delivered.addAll(batch);
+
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }).capacity(4).batchSize(1).build()) {
+            sink.accept(new IOException());
+            assertTrue(blocked.await(1, TimeUnit.MINUTES));
+
+            // When
+            IntStream.range(0, 10).forEach(i -> sink.accept(new IOException()));
+            release.countDown();
+
+            // Then
+            assertEquals(6, sink.dropped());
+        }
+
+        assertEquals(5, delivered.size());
+    }
+
+    @Test
+    void shallAccountForFailuresAcceptedWhileClosing() throws InterruptedException {
+        // Given
+        final List<Throwable> delivered = new CopyOnWriteArrayList<>();
+        final FailureSink<Throwable> sink = FailureSink.<Throwable>builder(delivered::addAll).build();
+        final CountDownLatch started = new CountDownLatch(4);
+        final List<Thread> producers = IntStream.range(0, 4)
+                .mapToObj(i -> new Thread(() -> {
+                    started.countDown();
+                    IntStream.range(0, 10_000).forEach(j -> sink.accept(new IOException()));
+                }))
+                .collect(Collectors.toList());
+
+        // When
+        producers.forEach(Thread::start);
+        started.await();
+        sink.close();
+
+        for (Thread producer : producers) {
+            producer.join();
+        }
+
+        // Then
+        assertEquals(40_000, delivered.size() + sink.dropped());
+    }
+
+    @Test
+    void shallSampleFailures() {
+        // Given
+        final List<Throwable> delivered = new CopyOnWriteArrayList<>();
+
+        // When
+        final long sampledOut;
+
+        try (FailureSink<Throwable> sink = FailureSink.<Throwable>builder(delivered::addAll)
+                .capacity(1 << 14)
+                .sampleOneIn(10)
+                .build()) {
+            IntStream.range(0, 10_000).forEach(i -> sink.accept(new IOException()));
+            sampledOut = sink.sampledOut();
+        }
+
+        // Then
+        assertEquals(10_000, sampledOut + delivered.size());
+        assertTrue(delivered.size() > 500 && delivered.size() < 1500);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class LatencyRecorderTest {
+    @Test
+    void shallReturnFallbackWhenEmpty() {
+        // Given
+        final Duration expected = Duration.ofMillis(5);
+
+        // When
+        final Duration actual = LatencyRecorder.of(10, expected).percentile(0.99);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallReturnPercentileOfWindow() {
+        // Given
+        final LatencyRecorder recorder = LatencyRecorder.of(100, Duration.ZERO);
+
+        // When
+        for (int i = 1; i <= 200; i++) {
+            recorder.record(Duration.ofMillis(i));
+        }
+
+        // Then
+        assertEquals(Duration.ofMillis(101), recorder.percentile(0));
+        assertEquals(Duration.ofMillis(150), recorder.percentile(0.5));
+        assertEquals(Duration.ofMillis(195), recorder.percentile(0.95));
+        assertEquals(Duration.ofMillis(200), recorder.percentile(1));
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Flow;
+import java.util.concurrent.SubmissionPublisher;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class LiftingProcessorTest {
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shallEmitFailuresInOrderWithoutCancelling() throws InterruptedException {
+        // Given
+        final LiftingProcessor<Integer, Integer, Try<Integer>> processor = LiftingProcessor.ofTry(i -> {
+            if (i % 3 == 0) {
+                throw new IOException("I broke :(");
+            }
+
+            return i * 2;
+        }, executor, 4, true);
+        final Collector<Try<Integer>> collector = new Collector<>(Long.MAX_VALUE);
+
+        // When
+        publish(processor, collector, 100);
+
+        // Then
+        assertTrue(collector.completed.await(1, TimeUnit.MINUTES));
+        assertEquals(100, collector.items.size());
+
+        for (int i = 0; i < 100; i++) {
+            assertEquals(i % 3 == 0, collector.items.get(i).isFailure());
+            assertEquals(i * 2, collector.items.get(i).orElse(i * 2));
+        }
+    }
+
+    @Test
+    void shallEmitAllWhenUnordered() throws InterruptedException {
+        // Given
+        final LiftingProcessor<Integer, Integer, Either<Throwable, Integer>> processor = LiftingProcessor.ofEither(
+                i -> i, executor, 8, false);
+        final Collector<Either<Throwable, Integer>> collector = new Collector<>(Long.MAX_VALUE);
+
+        // When
+        publish(processor, collector, 1000);
+
+        // Then
+        assertTrue(collector.completed.await(1, TimeUnit.MINUTES));
+        assertEquals(IntStream.range(0, 1000).boxed().collect(Collectors.toSet()), collector.items.stream()
+                .map(Either::get)
+                .collect(Collectors.toSet()));
+    }
+
+    @Test
+    void shallHonourDownstreamDemand() throws InterruptedException {
+        // Given
+        final LiftingProcessor<Integer, Integer, Try<Integer>> processor = LiftingProcessor.ofTry(
+                i -> i, Runnable::run, 2, true);
+        final Collector<Try<Integer>> collector = new Collector<>(3);
+
+        // When
+        new RangePublisher(10).subscribe(processor);
+        processor.subscribe(collector);
+
+        // Then
+        assertTrue(collector.received.await(1, TimeUnit.MINUTES));
+        assertEquals(List.of(Try.success(0), Try.success(1), Try.success(2)), collector.items);
+        assertEquals(1, collector.completed.getCount());
+    }
+
+    @Test
+    void shallRejectSecondSubscriber() throws InterruptedException {
+        // Given
+        final LiftingProcessor<Integer, Integer, Try<Integer>> processor = LiftingProcessor.ofTry(
+                i -> i, executor, 2, true);
+        final Collector<Try<Integer>> first = new Collector<>(1);
+        final Collector<Try<Integer>> second = new Collector<>(1);
+
+        // When
+        processor.subscribe(first);
+        processor.subscribe(second);
+
+        // Then
+        assertTrue(second.completed.await(1, TimeUnit.MINUTES));
+        assertEquals(IllegalStateException.class, second.error.getClass());
+    }
+
+    private static void publish(LiftingProcessor<Integer, Integer, ?> processor,
+                                Flow.Subscriber<Object> collector,
+                                int count) {
+        final SubmissionPublisher<Integer> publisher = new SubmissionPublisher<>();
+
+        publisher.subscribe(processor);
+        processor.subscribe(collector);
+        IntStream.range(0, count).forEach(publisher::submit);
+        publisher.close();
+    }
+
+    private static final class RangePublisher implements Flow.Publisher<Integer> {
+        private final int count;
+
+        private RangePublisher(int count) {
+            this.count = count;
+        }
+
+        @Override
+        public void subscribe(Flow.Subscriber<? super Integer> subscriber) {
+            subscriber.onSubscribe(new Flow.Subscription() {
+                private long requested;
+                private int next;
+                private boolean emitting;
+
+                @Override
+                public void request(long n) {
+                    requested += n;
+
+                    if (emitting) {
+                        return;
+                    }
+
+                    emitting = true;
+
+                    while (requested > 0 && next < count) {
+                        requested--;
+                        subscriber.onNext(next++);
+                    }
+
+                    emitting = false;
+                }
+
+                @Override
+                public void cancel() {
+                    next = count;
+                }
+            });
+        }
+    }
+
+    private static final class Collector<T> implements Flow.Subscriber<Object> {
+        private final List<T> items = new CopyOnWriteArrayList<>();
+        private final CountDownLatch completed = new CountDownLatch(1);
+        private final CountDownLatch received;
+        private final long demand;
+        private volatile Throwable error;
+
+        private Collector(long demand) {
+            this.received = new CountDownLatch((int) Math.min(demand, Integer.MAX_VALUE));
+            this.demand = demand;
+        }
+
+        @Override
+        public void onSubscribe(Flow.Subscription subscription) {
+            subscription.request(demand);
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public void onNext(Object item) {
+            items.add((T) item);
+            received.countDown();
+        }
+
+        @Override
+        public void onError(Throwable throwable) {
+            error = throwable;
+            completed.countDown();
+        }
+
+        @Override
+        public void onComplete() {
+            completed.countDown();
+        }
+    }
+}
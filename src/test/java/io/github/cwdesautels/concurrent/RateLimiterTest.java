@@ -0,0 +1,84 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import static io.github.cwdesautels.monad.Either.right;
+import static io.github.cwdesautels.monad.Try.success;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class RateLimiterTest {
+    @Test
+    void shallPermitBurst() {
+        // Given
+        final UUID value = randomUUID();
+        final Either<RateLimited, Try<UUID>> expected = right(success(value));
+        final RateLimiter limiter = RateLimiter.of(1, 3);
+
+        // Then
+        for (int i = 0; i < 3; i++) {
+            assertEquals(expected, limiter.call(() -> value));
+        }
+    }
+
+    @Test
+    void shallRejectBeyondBurstWithoutInvoking() {
+        // Given
+        final RateLimiter limiter = RateLimiter.of(1, 1);
+        limiter.call(() -> null);
+
+        // When
+        final Either<RateLimited, Try<Object>> actual = limiter.call(() -> fail());
+
+        // Then
+        assertTrue(actual.isLeft());
+        assertTrue(actual.getLeft().retryAfter().compareTo(Duration.ZERO) > 0);
+        assertTrue(actual.getLeft().retryAfter().compareTo(Duration.ofSeconds(1)) <= 0);
+    }
+
+    @Test
+    void shallWaitForPermitWithinTimeout() {
+        // Given
+        final UUID value = randomUUID();
+        final Either<RateLimited, Try<UUID>> expected = right(success(value));
+        final RateLimiter limiter = RateLimiter.of(100, 1);
+        limiter.call(() -> null);
+
+        // When
+        final Either<RateLimited, Try<UUID>> actual = limiter.call(() -> value, Duration.ofSeconds(1));
+
+        // Then
+        assertEquals(expected, actual);
+    }
+}
@@ -0,0 +1,212 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.monad.Deadline;
+import io.github.cwdesautels.monad.DeadlineExceededException;
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static io.github.cwdesautels.monad.Try.failure;
+import static io.github.cwdesautels.monad.Try.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ResourcePoolTest {
+    private final List<Resource> created = new CopyOnWriteArrayList<>();
+
+    @Test
+    void shallReuseResourceAfterSuccess() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, 1);
+
+        // When
+        final Try<Resource> a = pool.using(resource -> resource);
+        final Try<Resource> b = pool.using(resource -> resource);
+
+        // Then
+        assertSame(a.get(), b.get());
+        assertEquals(1, created.size());
+        assertEquals(1, pool.idle());
+    }
+
+    @Test
+    void shallEvictResourceAfterFailure() {
+        // Given
+        final IOException error = new IOException("I broke :(");
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, 1);
+
+        // When
+        final Try<Object> actual = pool.using(resource -> {
+            throw error;
+        });
+
+        // Then
+        assertEquals(failure(error), actual);
+        assertTrue(created.get(0).closed);
+        assertEquals(0, pool.idle());
+    }
+
+    @Test
+    void shallReplaceResourceFailingValidation() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, resource -> created.size() > 1, 1);
+        pool.using(resource -> resource);
+
+        // When
+        final Try<Resource> actual = pool.using(resource -> resource);
+
+        // Then
+        assertEquals(success(created.get(1)), actual);
+        assertTrue(created.get(0).closed);
+    }
+
+    @Test
+    void shallCloseResourcesBeyondMaxIdle() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, 0);
+
+        // When
+        pool.using(resource -> resource);
+
+        // Then
+        assertTrue(created.get(0).closed);
+        assertEquals(0, pool.idle());
+    }
+
+    @Test
+    void shallCloseIdleResourcesWhenClosed() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, 1);
+        pool.using(resource -> resource);
+
+        // When
+        pool.close();
+
+        // Then
+        assertTrue(created.get(0).closed);
+        assertFalse(pool.using(resource -> resource).isSuccess());
+    }
+
+    @Test
+    void shallFailWithoutBlockingWhenExhausted() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, 1, 1);
+
+        // When
+        final Try<Try<Object>> actual = pool.using(resource -> pool.using(nested -> nested));
+
+        // Then
+        assertTrue(actual.isSuccess());
+        assertEquals(IllegalStateException.class, actual.get().getCause().getClass());
+        assertEquals(1, created.size());
+        assertEquals(1, pool.total());
+    }
+
+    @Test
+    void shallFreeCapacityWhenResourceIsClosed() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, 0, 1);
+        pool.using(resource -> resource);
+
+        // When
+        final Try<Resource> actual = pool.using(resource -> resource);
+
+        // Then
+        assertEquals(success(created.get(1)), actual);
+        assertEquals(0, pool.total());
+    }
+
+    @Test
+    void shallFreeCapacityWhenFactoryFails() {
+        // Given
+        final IOException error = new IOException("I broke :(");
+        final ResourcePool<Resource> pool = ResourcePool.of(() -> {
+            throw error;
+        }, 1, 1);
+
+        // When
+        final Try<Object> actual = pool.using(resource -> resource);
+
+        // Then
+        assertEquals(failure(error), actual);
+        assertEquals(0, pool.total());
+    }
+
+    @Test
+    void shallKeepIdleResourceWhenDeadlineIsExceeded() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, 1);
+        pool.using(resource -> resource);
+
+        // When
+        final Try<Resource> actual = Deadline.after(Duration.ZERO).run(() -> pool.using(resource -> resource));
+
+        // Then
+        assertEquals(DeadlineExceededException.class, actual.getCause().getClass());
+        assertFalse(created.get(0).closed);
+        assertEquals(1, pool.idle());
+        assertEquals(1, pool.total());
+    }
+
+    @Test
+    void shallCloseInvalidResourceWhenDeadlineIsExceeded() {
+        // Given
+        final ResourcePool<Resource> pool = ResourcePool.of(this::create, resource -> false, 1);
+        pool.using(resource -> resource);
+
+        // When
+        Deadline.after(Duration.ZERO).run(() -> pool.using(resource -> resource));
+
+        // Then
+        assertTrue(created.get(0).closed);
+        assertEquals(0, pool.idle());
+        assertEquals(0, pool.total());
+    }
+
+    private Resource create() {
+        final Resource resource = new Resource();
+
+        created.add(resource);
+
+        return resource;
+    }
+
+    private static final class Resource implements AutoCloseable {
+        private volatile boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+}
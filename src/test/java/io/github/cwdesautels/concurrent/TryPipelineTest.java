@@ -0,0 +1,209 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.concurrent;
+
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+import static io.github.cwdesautels.monad.Try.failure;
+import static io.github.cwdesautels.monad.Try.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryPipelineTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void shallRunEachStage() throws InterruptedException {
+        // Given
+        final List<Try<String>> delivered = new CopyOnWriteArrayList<>();
+        final List<Try<String>> expected = List.of(success("2"), success("4"), success("6"));
+
+        // When
+        try (TryPipeline<String, String> pipeline = TryPipeline.<String>builder()
+                .stage("parse", Integer::parseInt, executor, 2, 8)
+                .stage("double", value -> value * 2, executor, 2, 8)
+                .stage("format", String::valueOf, executor, 1, 8)
+                .build(delivered::add)) {
+            pipeline.submit("1");
+            pipeline.submit("2");
+            pipeline.submit("3");
+        }
+
+        // Then
+        assertEquals(expected, delivered.stream()
+                .sorted((a, b) -> a.get().compareTo(b.get()))
+                .collect(Collectors.toList()));
+    }
+
+    @Test
+    void shallBypassRemainingStagesOnFailure() throws InterruptedException {
+        // Given
+        final List<Try<Integer>> delivered = new CopyOnWriteArrayList<>();
+        final AtomicInteger doubled = new AtomicInteger();
+        final List<StageMetrics> metrics;
+
+        // When
+        try (TryPipeline<String, Integer> pipeline = TryPipeline.<String>builder()
+                .stage("parse", Integer::parseInt, executor, 1, 8)
+                .stage("double", value -> doubled.incrementAndGet() * value, executor, 1, 8)
+                .build(delivered::add)) {
+            pipeline.submit("1");
+            pipeline.submit("nope");
+            pipeline.close();
+            metrics = pipeline.metrics();
+        }
+
+        // Then
+        assertEquals(2, delivered.size());
+        assertEquals(1, delivered.stream().filter(Try::isFailure).count());
+        assertTrue(delivered.stream()
+                .filter(Try::isFailure)
+                .allMatch(result -> result.getCause() instanceof NumberFormatException));
+        assertEquals(1, doubled.get());
+        assertEquals(StageMetrics.of("parse", 0, 2, 1), metrics.get(0));
+        assertEquals(StageMetrics.of("double", 0, 1, 0), metrics.get(1));
+    }
+
+    @Test
+    void shallDeliverErrorsAsFailures() throws InterruptedException {
+        // Given
+        final List<Try<Object>> delivered = new CopyOnWriteArrayList<>();
+        final AssertionError error = new AssertionError("I broke :(");
+
+        // When
+        try (TryPipeline<String, Object> pipeline = TryPipeline.<String>builder()
+                .stage("fail", (String value) -> {
+                    throw error;
+                }, executor, 1, 1)
+                .build(delivered::add)) {
+            pipeline.submit("first");
+            pipeline.submit("second");
+            pipeline.submit("third");
+        }
+
+        // Then
+        assertEquals(List.of(failure(error), failure(error), failure(error)), delivered);
+    }
+
+    @Test
+    void shallApplyBackpressure() throws InterruptedException {
+        // Given
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+
+        try (TryPipeline<String, String> pipeline = TryPipeline.<String>builder()
+                .stage("slow", (String value) -> {
+                    started.countDown();
+                    release.await();
+
+                    return value;
+                }, executor, 1, 1)
+                .build(result -> {
+                })) {
+            pipeline.submit("first");
+            assertTrue(started.await(1, TimeUnit.SECONDS));
+            pipeline.submit("second");
+
+            // When
+            final boolean actual = pipeline.offer("third");
+
+            // Then
+            assertFalse(actual);
+            assertEquals(1, pipeline.metrics().get(0).queued());
+
+            release.countDown();
+        }
+    }
+
+    @Test
+    void shallBuildIndependentPipelines() throws InterruptedException {
+        // Given
+        final List<Try<String>> delivered = new CopyOnWriteArrayList<>();
+        final TryPipeline.Builder<String, String> builder = TryPipeline.<String>builder()
+                .stage("identity", (String value) -> value, executor, 1, 1);
+        final TryPipeline<String, String> first = builder.build(delivered::add);
+
+        // When
+        try (TryPipeline<String, String> second = builder.build(delivered::add)) {
+            first.close();
+            second.submit("second");
+        }
+
+        // Then
+        assertEquals(List.of(success("second")), delivered);
+    }
+
+    @Test
+    void shallRejectExecutorWithTooFewThreads() {
+        // Given
+        final ExecutorService fixed = Executors.newFixedThreadPool(2);
+
+        try {
+            // When
+            final TryPipeline.Builder<String, String> builder = TryPipeline.<String>builder()
+                    .stage("first", (String value) -> value, fixed, 1, 1)
+                    .stage("second", (String value) -> value, fixed, 2, 1);
+
+            // Then
+            assertThrows(IllegalArgumentException.class, () -> builder.build(result -> {
+            }));
+        } finally {
+            fixed.shutdownNow();
+        }
+    }
+
+    @Test
+    void shallRejectAfterClose() {
+        // Given
+        final TryPipeline<String, String> pipeline = TryPipeline.<String>builder()
+                .stage("identity", (String value) -> value, executor, 1, 1)
+                .build(result -> {
+                });
+
+        // When
+        pipeline.close();
+
+        // Then
+        assertThrows(IllegalStateException.class, () -> pipeline.submit("late"));
+    }
+}
@@ -0,0 +1,198 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.io;
+
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.github.cwdesautels.monad.Either.left;
+import static io.github.cwdesautels.monad.Either.right;
+import static io.github.cwdesautels.monad.Try.failure;
+import static io.github.cwdesautels.monad.Try.success;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+class JsonWriterTest {
+    private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+    private final JsonWriter writer = JsonWriter.of(bytes);
+
+    @Test
+    void shallWrapRightInOkEnvelope() throws IOException {
+        // Given
+        final Either<String, Long> value = right(42L);
+
+        // When
+        writer.write(value, ValueWriter.strings(), ValueWriter.numbers()).flush();
+
+        // Then
+        assertEquals("{\"ok\":42}", written());
+    }
+
+    @Test
+    void shallWrapLeftInErrorEnvelope() throws IOException {
+        // Given
+        final Either<String, Long> value = left("not found");
+
+        // When
+        writer.write(value, ValueWriter.strings(), ValueWriter.numbers()).flush();
+
+        // Then
+        assertEquals("{\"error\":\"not found\"}", written());
+    }
+
+    @Test
+    void shallWrapTry() throws IOException {
+        // Given
+        final Try<Boolean> ok = success(true);
+        final Try<Boolean> error = failure(new IOException("I broke :("));
+
+        // When
+        writer.beginArray()
+                .write(ok, ValueWriter.throwables(), ValueWriter.booleans())
+                .write(error, ValueWriter.throwables(), ValueWriter.booleans())
+                .endArray()
+                .flush();
+
+        // Then
+        assertEquals("[{\"ok\":true},{\"error\":{\"type\":\"java.io.IOException\",\"message\":\"I broke :(\"}}]",
+                written());
+    }
+
+    @Test
+    void shallWriteCustomValues() throws IOException {
+        // Given
+        final ValueWriter<List<Integer>> list = (out, values) -> {
+            out.beginArray();
+
+            for (Integer value : values) {
+                out.number(value);
+            }
+
+            out.endArray();
+        };
+
+        // When
+        writer.write(Either.<String, List<Integer>>right(List.of(1, -2, 3)), ValueWriter.strings(), list).flush();
+
+        // Then
+        assertEquals("{\"ok\":[1,-2,3]}", written());
+    }
+
+    @Test
+    void shallEscapeStrings() throws IOException {
+        // When
+        writer.string("q\"b\\n\n\u0001é€😀").flush();
+
+        // Then
+        assertEquals("\"q\\\"b\\\\n\\n\\u0001é€😀\"", written());
+    }
+
+    @Test
+    void shallWriteNumbers() throws IOException {
+        // When
+        writer.beginArray()
+                .number(0)
+                .number(Long.MIN_VALUE)
+                .number(Long.MAX_VALUE)
+                .number(2.0)
+                .number(0.5)
+                .nullValue()
+                .endArray()
+                .flush();
+
+        // Then
+        assertEquals("[0,-9223372036854775808,9223372036854775807,2,0.5,null]", written());
+        assertThrows(IllegalArgumentException.class, () -> writer.number(Double.NaN));
+    }
+
+    @Test
+    void shallWriteNumbersWithoutLosingPrecision() throws IOException {
+        // Given
+        final List<Number> values = List.of(
+                0.1f,
+                new BigDecimal("0.1000000000000000055511151231257827"),
+                new BigInteger("123456789012345678901234567890"),
+                new AtomicLong(Long.MAX_VALUE));
+
+        // When
+        writer.beginArray();
+
+        for (Number value : values) {
+            writer.value(value, ValueWriter.numbers());
+        }
+
+        writer.endArray().flush();
+
+        // Then
+        assertEquals("[0.1,0.1000000000000000055511151231257827,123456789012345678901234567890,9223372036854775807]", written());
+        assertThrows(IllegalArgumentException.class, () -> writer.number(Float.NaN));
+    }
+
+    @Test
+    void shallWriteIntoByteBuffer() throws IOException {
+        // Given
+        final ByteBuffer buffer = ByteBuffer.allocate(64);
+
+        // When
+        JsonWriter.of(buffer).write(Either.<String, String>right("yes"), ValueWriter.strings(), ValueWriter.strings());
+
+        // Then
+        assertEquals("{\"ok\":\"yes\"}", new String(buffer.array(), 0, buffer.position(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void shallOverflowSmallByteBuffer() {
+        // Given
+        final JsonWriter small = JsonWriter.of(ByteBuffer.allocate(4));
+
+        // Then
+        assertThrows(BufferOverflowException.class, () -> small.string("too long"));
+    }
+
+    @Test
+    void shallRejectUnbalancedStructure() throws IOException {
+        // Given
+        writer.beginArray();
+
+        // Then
+        assertThrows(IllegalStateException.class, () -> writer.name("key"));
+        assertThrows(IllegalStateException.class, writer::endObject);
+    }
+
+    private String written() {
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.io;
+
+import io.github.cwdesautels.monad.Either;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static io.github.cwdesautels.monad.Either.right;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class RecordReaderTest {
+    @TempDir
+    Path directory;
+
+    @Test
+    void shallParseEachRecord() throws IOException {
+        // Given
+        final Path file = write("1\r\n2\n\n3");
+        final List<Either<RecordError, Integer>> expected = List.of(right(1), right(2), right(3));
+
+        // When
+        final List<Either<RecordError, Integer>> actual;
+
+        try (Stream<Either<RecordError, Integer>> records = RecordReader.lines(file, RecordReader.utf8(this::parse))) {
+            actual = records.collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallLocateFailedRecord() throws IOException {
+        // Given
+        final Path file = write("1\nnope\n3\n");
+
+        // When
+        final List<Either<RecordError, Integer>> actual;
+
+        try (Stream<Either<RecordError, Integer>> records = RecordReader.lines(file, RecordReader.utf8(this::parse))) {
+            actual = records.collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(3, actual.size());
+        assertTrue(actual.get(1).isLeft());
+        assertEquals(2, actual.get(1).getLeft().line());
+        assertEquals(2, actual.get(1).getLeft().offset());
+        assertEquals(NumberFormatException.class, actual.get(1).getLeft().cause().getClass());
+    }
+
+    @Test
+    void shallLocateFailedRecordsAcrossParallelRegions() throws IOException {
+        // Given
+        final Path file = write(IntStream.range(0, 500_000)
+                .mapToObj(i -> i % 100_000 == 0 ? "nope" : String.valueOf(i))
+                .collect(Collectors.joining("\n")));
+
+        // When
+        final List<Long> actual;
+
+        try (Stream<Either<RecordError, Integer>> records = RecordReader.lines(file, RecordReader.utf8(this::parse))) {
+            actual = records.parallel()
+                    .filter(Either::isLeft)
+                    .map(record -> record.getLeft().line())
+                    .collect(Collectors.toList());
+        }
+
+        // Then
+        assertEquals(List.of(1L, 100_001L, 200_001L, 300_001L, 400_001L), actual);
+    }
+
+    private Integer parse(CharSequence record) {
+        return Integer.valueOf(record.toString());
+    }
+
+    private Path write(String content) throws IOException {
+        return Files.write(directory.resolve("records.txt"), content.getBytes(StandardCharsets.UTF_8));
+    }
+}
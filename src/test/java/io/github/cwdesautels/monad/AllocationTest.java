@@ -0,0 +1,148 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import io.github.cwdesautels.function.CheckedFunction;
+import io.github.cwdesautels.function.CheckedSupplier;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static io.github.cwdesautels.monad.Either.left;
+import static io.github.cwdesautels.monad.Either.right;
+import static io.github.cwdesautels.monad.Try.failure;
+import static io.github.cwdesautels.monad.Try.success;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class AllocationTest {
+    private static final int WARMUP = 20_000;
+    private static final int ITERATIONS = 100_000;
+    private static final com.sun.management.ThreadMXBean THREADS =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+    private static final Object VALUE = new Object();
+    private static final RuntimeException CAUSE = new RuntimeException();
+    private static final CheckedSupplier<Object> SUPPLIER = () -> VALUE;
+    private static final CheckedFunction<Object, Object> IDENTITY = value -> value;
+    private static final CheckedFunction<Object, Try<Object>> LIFT = Try::success;
+    private static final Function<Object, Object> PURE = value -> value;
+    private static final Function<Object, Either<Object, Object>> RIGHT = Either::right;
+
+    private static final Try<Object> SUCCESS = success(VALUE);
+    private static final Try<Object> FAILURE = failure(CAUSE);
+    private static final Either<Object, Object> LEFT = left(VALUE);
+    private static final Either<Object, Object> RIGHT_VALUE = right(VALUE);
+    private static final Option<Object> SOME = Option.some(VALUE);
+    private static final Result<Object, Object> ERR = Result.err(VALUE);
+
+    private static volatile Object sink;
+
+    @BeforeAll
+    static void setUp() {
+        assumeTrue(THREADS.isThreadAllocatedMemorySupported());
+
+        THREADS.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void shallFitFootprintBudgets() {
+        assertBudget("Success", () -> success(VALUE), 16);
+        assertBudget("Failure", () -> failure(CAUSE), 16);
+        assertBudget("Left", () -> left(VALUE), 16);
+        assertBudget("Right", () -> right(VALUE), 16);
+        assertBudget("Some", () -> Option.some(VALUE), 16);
+    }
+
+    @Test
+    void shallFitTryBudgets() {
+        assertBudget("Try.of", () -> Try.of(SUPPLIER), 16);
+        assertBudget("Try.map", () -> SUCCESS.map(IDENTITY), 40);
+        assertBudget("Try.map failure", () -> FAILURE.map(IDENTITY), 16);
+        assertBudget("Try.flatMap", () -> SUCCESS.flatMap(LIFT), 136);
+        assertBudget("Try.recover", () -> FAILURE.recover(cause -> VALUE), 40);
+        assertBudget("Try.orElse", () -> SUCCESS.orElse(VALUE), 0);
+        assertBudget("Try.toEither", () -> SUCCESS.toEither(), 16);
+    }
+
+    @Test
+    void shallFitEitherBudgets() {
+        assertBudget("Either.map", () -> RIGHT_VALUE.map(PURE), 16);
+        assertBudget("Either.map left", () -> LEFT.map(PURE), 16);
+        assertBudget("Either.flatMap", () -> RIGHT_VALUE.flatMap(RIGHT), 16);
+        assertBudget("Either.swap", () -> RIGHT_VALUE.swap(), 16);
+        assertBudget("Either.fold", () -> RIGHT_VALUE.fold(PURE, PURE), 0);
+    }
+
+    @Test
+    void shallFitOptionBudgets() {
+        assertBudget("Option.none", () -> Option.none(), 0);
+        assertBudget("Option.none toTry", () -> Option.none().toTry(), 0);
+        assertBudget("Option.some toTry", () -> SOME.toTry(), 16);
+        assertBudget("Try.toOption", () -> SUCCESS.toOption(), 16);
+        assertBudget("Try.toOption failure", () -> FAILURE.toOption(), 0);
+    }
+
+    @Test
+    void shallFitResultBudgets() {
+        assertBudget("Result.err", () -> Result.err(VALUE), 16);
+        assertBudget("Result.map err", () -> ERR.map(PURE), 0);
+        assertBudget("Result.flatMap err", () -> ERR.flatMap(value -> ERR), 0);
+        assertBudget("Result.toEither", () -> ERR.toEither(), 16);
+    }
+
+    @Test
+    void shallFitCursorBudgets() {
+        final TryCursor<Object> cursor = TryCursor.create();
+
+        assertBudget("TryCursor.run", () -> cursor.run(SUPPLIER), 0);
+        assertBudget("TryCursor.apply", () -> cursor.apply(IDENTITY, VALUE), 0);
+    }
+
+    private static void assertBudget(String operation, Supplier<Object> body, long budget) {
+        final long actual = allocatedPerOperation(body);
+
+        assertTrue(actual <= budget, () -> operation + " allocated " + actual + " bytes, budget " + budget);
+    }
+
+    private static long allocatedPerOperation(Supplier<Object> body) {
+        for (int i = 0; i < WARMUP; i++) {
+            sink = body.get();
+        }
+
+        final long thread = Thread.currentThread().getId();
+        final long before = THREADS.getThreadAllocatedBytes(thread);
+
+        for (int i = 0; i < ITERATIONS; i++) {
+            sink = body.get();
+        }
+
+        final long after = THREADS.getThreadAllocatedBytes(thread);
+
+        return (after - before) / ITERATIONS;
+    }
+}
@@ -0,0 +1,107 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static io.github.cwdesautels.monad.Try.success;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DeadlineTest {
+    @Test
+    void shallRunStagesWithinBudget() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+
+        // When
+        final Try<UUID> actual = Deadline.after(Duration.ofMinutes(1))
+                .run(() -> Try.of(UUID::randomUUID).map(random -> value));
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallShortCircuitStagesOnceExpired() {
+        // Given
+        final Deadline deadline = Deadline.after(Duration.ZERO);
+        final AtomicInteger stages = new AtomicInteger();
+
+        // When
+        final Try<UUID> actual = deadline.run(() -> success(randomUUID())
+                .map(uuid -> stages.incrementAndGet())
+                .flatMap(count -> success(randomUUID()))
+                .recover(error -> {
+                    stages.incrementAndGet();
+
+                    return randomUUID();
+                }));
+
+        // Then
+        assertTrue(deadline.isExpired());
+        assertEquals(0, stages.get());
+        assertSame(Deadline.exceeded(), actual);
+        assertSame(DeadlineExceededException.class, actual.getCause().getClass());
+        assertEquals(0, actual.getCause().getStackTrace().length);
+    }
+
+    @Test
+    void shallRestorePreviousDeadline() {
+        // Given
+        final Deadline outer = Deadline.after(Duration.ofMinutes(1));
+        final Deadline inner = Deadline.after(Duration.ofSeconds(1));
+
+        // When
+        final Optional<Deadline> nested = outer.run(() -> inner.run(Deadline::current));
+        final Optional<Deadline> restored = outer.run(Deadline::current);
+
+        // Then
+        assertEquals(Optional.of(inner), nested);
+        assertEquals(Optional.of(outer), restored);
+        assertEquals(Optional.empty(), Deadline.current());
+    }
+
+    @Test
+    void shallKeepEarlierOuterDeadline() {
+        // Given
+        final Deadline outer = Deadline.after(Duration.ofSeconds(1));
+        final Deadline inner = Deadline.after(Duration.ofMinutes(1));
+
+        // When
+        final Optional<Deadline> actual = outer.run(() -> inner.run(Deadline::current));
+
+        // Then
+        assertEquals(Optional.of(outer), actual);
+    }
+}
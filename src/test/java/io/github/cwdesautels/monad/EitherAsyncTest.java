@@ -0,0 +1,144 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+import static io.github.cwdesautels.monad.Either.left;
+import static io.github.cwdesautels.monad.Either.right;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class EitherAsyncTest {
+    @Test
+    void shallMapImmediatelyWhenCompleted() {
+        // Given
+        final UUID value = randomUUID();
+        final Either<String, UUID> expected = right(value);
+
+        // When
+        final EitherAsync<String, UUID> actual = EitherAsync.<String, UUID>right(randomUUID()).map(random -> value);
+
+        // Then
+        assertTrue(actual.isDone());
+        assertEquals(expected, actual.toCompletableFuture().getNow(null));
+    }
+
+    @Test
+    void shallMapOnCompletionWhenPending() {
+        // Given
+        final UUID value = randomUUID();
+        final Either<String, UUID> expected = right(value);
+        final CompletableFuture<Either<String, UUID>> pending = new CompletableFuture<>();
+
+        // When
+        final EitherAsync<String, UUID> actual = EitherAsync.of(pending).map(random -> value);
+
+        // Then
+        assertFalse(actual.isDone());
+        pending.complete(right(randomUUID()));
+        assertEquals(expected, actual.toCompletableFuture().getNow(null));
+    }
+
+    @Test
+    void shallNotMapWhenLeft() {
+        // Given
+        final Either<String, UUID> expected = left("I broke :(");
+
+        // When
+        final EitherAsync<String, UUID> actual = EitherAsync.<String, UUID>left("I broke :(").map(uuid -> randomUUID());
+
+        // Then
+        assertEquals(expected, actual.toCompletableFuture().getNow(null));
+    }
+
+    @Test
+    void shallFlatMapWhenPendingRight() {
+        // Given
+        final UUID value = randomUUID();
+        final Either<String, UUID> expected = right(value);
+        final CompletableFuture<Either<String, UUID>> pending = new CompletableFuture<>();
+        final CompletableFuture<Either<String, UUID>> inner = new CompletableFuture<>();
+
+        // When
+        final EitherAsync<String, UUID> actual = EitherAsync.of(pending).flatMap(random -> EitherAsync.of(inner));
+        pending.complete(right(randomUUID()));
+        inner.complete(right(value));
+
+        // Then
+        assertEquals(expected, actual.toCompletableFuture().getNow(null));
+    }
+
+    @Test
+    void shallMapLeftAndFlatMapLeftWhenLeft() {
+        // Given
+        final Either<Integer, UUID> expected = left(11);
+
+        // When
+        final EitherAsync<Integer, UUID> actual = EitherAsync.<String, UUID>left("I broke :(")
+                .mapLeft(String::length)
+                .flatMapLeft(length -> EitherAsync.left(length + 1));
+
+        // Then
+        assertEquals(expected, actual.toCompletableFuture().getNow(null));
+    }
+
+    @Test
+    void shallFoldBothSides() {
+        // Given
+        final UUID value = randomUUID();
+
+        // When
+        final CompletableFuture<String> right = EitherAsync.<String, UUID>right(value).fold(l -> l, UUID::toString);
+        final CompletableFuture<String> left = EitherAsync.<String, UUID>left("left").fold(l -> l, UUID::toString);
+
+        // Then
+        assertEquals(value.toString(), right.getNow(null));
+        assertEquals("left", left.getNow(null));
+    }
+
+    @Test
+    void shallCompleteExceptionallyWhenFunctionThrows() {
+        // Given
+        final IllegalStateException expected = new IllegalStateException();
+
+        // When
+        final EitherAsync<String, UUID> actual = EitherAsync.<String, UUID>right(randomUUID()).map(uuid -> {
+            throw expected;
+        });
+
+        // Then
+        assertTrue(actual.toCompletableFuture().isCompletedExceptionally());
+        assertSame(expected, assertThrows(CompletionException.class, actual.toCompletableFuture()::join).getCause());
+    }
+}
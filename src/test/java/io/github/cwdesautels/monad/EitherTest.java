@@ -423,4 +423,73 @@ class EitherTest {
         // Then
         assertEquals(expected, actual);
     }
+
+    @Test
+    void shallYieldFromComprehension() {
+        // Given
+        final UUID value = randomUUID();
+        final Either<UUID, String> expected = right(value + "1" + "2" + "3");
+
+        // When
+        final Either<UUID, String> actual = Either.For(Either.<UUID, UUID>right(value))
+                .then(a -> Either.<UUID, String>right(a + "1"))
+                .then((a, b) -> right(b + "2"))
+                .then((a, b, c) -> right(c + "3"))
+                .yield((a, b, c, d) -> d);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallYieldFromSixStepComprehension() {
+        // Given
+        final UUID value = randomUUID();
+        final Either<UUID, String> expected = right(value + "12345");
+
+        // When
+        final Either<UUID, String> actual = Either.For(Either.<UUID, UUID>right(value))
+                .then(a -> Either.<UUID, String>right(a + "1"))
+                .then((a, b) -> right(b + "2"))
+                .then((a, b, c) -> right(c + "3"))
+                .then((a, b, c, d) -> right(d + "4"))
+                .then((a, b, c, d, e) -> right(e + "5"))
+                .yield((a, b, c, d, e, f) -> f);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallReturnLateLeftFromComprehension() {
+        // Given
+        final Either<UUID, UUID> expected = left(randomUUID());
+
+        // When
+        final Either<UUID, UUID> actual = Either.For(Either.<UUID, UUID>right(randomUUID()))
+                .then(a -> Either.<UUID, UUID>right(a))
+                .then((a, b) -> right(b))
+                .then((a, b, c) -> right(c))
+                .then((a, b, c, d) -> expected)
+                .then((a, b, c, d, e) -> fail())
+                .yield((a, b, c, d, e, f) -> a);
+
+        // Then
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void shallReturnFirstLeftFromComprehension() {
+        // Given
+        final Either<UUID, UUID> expected = left(randomUUID());
+
+        // When
+        final Either<UUID, UUID> actual = Either.For(Either.<UUID, UUID>right(randomUUID()))
+                .then(a -> expected)
+                .then((a, b) -> fail())
+                .yield((a, b, c) -> a);
+
+        // Then
+        assertSame(expected, actual);
+    }
 }
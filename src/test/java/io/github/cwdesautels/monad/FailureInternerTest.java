@@ -0,0 +1,123 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static io.github.cwdesautels.monad.Try.failure;
+import static io.github.cwdesautels.monad.Try.success;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+class FailureInternerTest {
+
+    @Test
+    void shallShareIdenticalFailures() {
+        // Given
+        final FailureInterner interner = FailureInterner.of(1);
+        final List<Try<UUID>> results = IntStream.range(0, 100)
+                .mapToObj(i -> Try.<UUID>failure(broken("I broke :(")))
+                .collect(Collectors.toList());
+
+        // When
+        final List<Try<UUID>> actual = results.stream()
+                .map(interner::intern)
+                .collect(Collectors.toList());
+
+        // Then
+        actual.forEach(result -> assertSame(actual.get(0), result));
+        assertEquals(100, interner.occurrences(broken("I broke :(")));
+        assertEquals(1, interner.size());
+    }
+
+    @Test
+    void shallSeparateDistinctMessages() {
+        // Given
+        final FailureInterner interner = FailureInterner.of(4);
+
+        // When
+        final Try<UUID> first = interner.intern(failure(broken("first")));
+        final Try<UUID> second = interner.intern(failure(broken("second")));
+
+        // Then
+        assertNotSame(first, second);
+        assertEquals(1, interner.occurrences(first.getCause()));
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    void shallKeepCanonicalWhileReferenced() {
+        // Given
+        final FailureInterner interner = FailureInterner.of(0);
+        final Try<UUID> expected = interner.intern(failure(broken("I broke :(")));
+
+        System.gc();
+
+        // When
+        final Try<UUID> actual = interner.intern(failure(broken("I broke :(")));
+
+        // Then
+        assertSame(expected, actual);
+        assertEquals(2, interner.occurrences(broken("I broke :(")));
+    }
+
+    @Test
+    void shallPassSuccessThrough() {
+        // Given
+        final FailureInterner interner = FailureInterner.of(4);
+        final Try<UUID> expected = success(randomUUID());
+
+        // When
+        final Try<UUID> actual = interner.intern(expected);
+
+        // Then
+        assertSame(expected, actual);
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    void shallIgnoreUnseenCauses() {
+        // Given
+        final FailureInterner interner = FailureInterner.of(4);
+
+        // When
+        interner.intern(failure(broken("seen")));
+
+        // Then
+        assertEquals(0, interner.occurrences(broken("unseen")));
+    }
+
+    private static IOException broken(String message) {
+        return new IOException(message);
+    }
+}
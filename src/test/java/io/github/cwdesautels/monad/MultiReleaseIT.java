@@ -0,0 +1,57 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class MultiReleaseIT {
+    @Test
+    void shallTestPackagedJar() {
+        // When
+        final String actual = Try.class.getProtectionDomain().getCodeSource().getLocation().getPath();
+
+        // Then
+        assertTrue(actual.endsWith(".jar"), actual);
+    }
+
+    @Test
+    void shallServeRecordsFromJar() {
+        // Then
+        assertEquals("SuccessRecord", Try.success(42).getClass().getSimpleName());
+        assertEquals("FailureRecord", Try.failure(new Exception()).getClass().getSimpleName());
+        assertEquals("LeftRecord", Either.left(42).getClass().getSimpleName());
+        assertEquals("RightRecord", Either.right(42).getClass().getSimpleName());
+    }
+
+    @Test
+    void shallServeSealedInterfacesFromJar() throws ReflectiveOperationException {
+        // Then
+        assertEquals(true, Class.class.getMethod("isSealed").invoke(Try.class));
+        assertEquals(true, Class.class.getMethod("isSealed").invoke(Either.class));
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+class MultiReleaseTest {
+    private static final String PACKAGE = Try.class.getPackageName();
+
+    @Test
+    void shallDeclareSameMethodsInEveryRelease() throws Exception {
+        // Given
+        final Path classes = Paths.get(Try.class.getProtectionDomain().getCodeSource().getLocation().toURI());
+        final Path versions = classes.resolve("META-INF/versions/17");
+
+        assumeTrue(Files.isDirectory(versions), "Classes are not multi release: " + classes);
+
+        final Set<String> versioned = versionedTypes(classes, versions);
+
+        assertFalse(versioned.isEmpty());
+
+        try (URLClassLoader base = loader(classes);
+             URLClassLoader release = loader(versions, classes)) {
+            for (String name : versioned) {
+                // When
+                final Set<String> expected = methods(base.loadClass(name));
+                final Set<String> actual = methods(release.loadClass(name));
+
+                // Then
+                assertEquals(expected, actual, name);
+            }
+        }
+    }
+
+    private static Set<String> versionedTypes(Path classes, Path versions) throws IOException {
+        final Path root = versions.resolve(PACKAGE.replace('.', '/'));
+
+        try (Stream<Path> files = Files.list(root)) {
+            return files.map(file -> file.getFileName().toString())
+                    .filter(file -> file.endsWith(".class"))
+                    .map(file -> PACKAGE + "." + file.substring(0, file.length() - ".class".length()))
+                    .filter(name -> Files.exists(classes.resolve(name.replace('.', '/') + ".class")))
+                    .collect(Collectors.toSet());
+        }
+    }
+
+    private static Set<String> methods(Class<?> type) {
+        return Arrays.stream(type.getMethods())
+                .map(Method::toGenericString)
+                .collect(Collectors.toSet());
+    }
+
+    private static URLClassLoader loader(Path... paths) throws IOException {
+        final URL[] urls = new URL[paths.length];
+
+        for (int i = 0; i < paths.length; i++) {
+            urls[i] = paths[i].toUri().toURL();
+        }
+
+        return new URLClassLoader(urls, ClassLoader.getPlatformClassLoader());
+    }
+}
@@ -0,0 +1,216 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.UUID;
+
+import static io.github.cwdesautels.monad.Option.none;
+import static io.github.cwdesautels.monad.Option.some;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class OptionTest {
+    @Test
+    void shallSupportEqualityAmongstSome() {
+        // Given
+        final Option<UUID> a = some(randomUUID());
+        final Option<UUID> b = some(a.get());
+        final Option<UUID> c = some(randomUUID());
+
+        // Then
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+    }
+
+    @Test
+    void shallShareNone() {
+        // When
+        final Option<UUID> a = none();
+        final Option<String> b = Option.ofNullable(null);
+
+        // Then
+        assertSame(a, b);
+        assertTrue(a.isNone());
+        assertThrows(NoSuchElementException.class, a::get);
+    }
+
+    @Test
+    void shallHoldNullDistinctly() {
+        // When
+        final Option<UUID> actual = some(null);
+
+        // Then
+        assertTrue(actual.isSome());
+        assertNotEquals(none(), actual);
+        assertEquals(Optional.empty(), actual.toOptional());
+    }
+
+    @Test
+    void shallMapSome() {
+        // Given
+        final UUID value = randomUUID();
+        final Option<String> expected = some(value.toString());
+
+        // When
+        final Option<String> actual = some(value).map(UUID::toString);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallNotMapNone() {
+        // When
+        final Option<String> actual = Option.<UUID>none()
+                .map(value -> fail())
+                .flatMap(value -> fail());
+
+        // Then
+        assertSame(none(), actual);
+    }
+
+    @Test
+    void shallFilterSome() {
+        // Given
+        final Option<UUID> value = some(randomUUID());
+
+        // Then
+        assertSame(value, value.filter(actual -> true));
+        assertSame(none(), value.filter(actual -> false));
+    }
+
+    @Test
+    void shallFallBackToPrimitive() {
+        // Then
+        assertEquals(3, some("abc").orElseInt(String::length, -1));
+        assertEquals(-1, Option.<String>none().orElseInt(String::length, -1));
+        assertEquals(-1L, Option.<String>none().orElseLong(String::length, -1L));
+        assertEquals(0.5, Option.<String>none().orElseDouble(String::length, 0.5));
+    }
+
+    @Test
+    void shallConvertToTry() {
+        // Given
+        final UUID value = randomUUID();
+
+        // When
+        final Try<UUID> some = some(value).toTry();
+        final Try<UUID> none = Option.<UUID>none().toTry();
+
+        // Then
+        assertEquals(Try.success(value), some);
+        assertSame(NoValueException.INSTANCE, none.getCause());
+        assertSame(none, Option.<String>none().toTry());
+    }
+
+    @Test
+    void shallShareStacklessNoneFailure() {
+        // Given
+        final Throwable cause = Option.none().toTry().getCause();
+
+        // When
+        cause.addSuppressed(new IOException("I broke :("));
+
+        // Then
+        assertEquals(0, cause.getSuppressed().length);
+        assertEquals(0, cause.getStackTrace().length);
+    }
+
+    @Test
+    void shallPinSerialVersion() {
+        // When
+        final long actual = ObjectStreamClass.lookup(ImmutableSome.class).getSerialVersionUID();
+
+        // Then
+        assertEquals(1L, actual);
+    }
+
+    @Test
+    void shallConvertToEither() {
+        // Given
+        final UUID value = randomUUID();
+        final UUID other = randomUUID();
+
+        // When
+        final Either<UUID, UUID> some = some(value).toEither(() -> other);
+        final Either<UUID, UUID> none = Option.<UUID>none().toEither(() -> other);
+
+        // Then
+        assertEquals(Either.right(value), some);
+        assertEquals(Either.left(other), none);
+    }
+
+    @Test
+    void shallConvertFromTryAndEither() {
+        // Given
+        final UUID value = randomUUID();
+
+        // Then
+        assertEquals(some(value), Try.success(value).toOption());
+        assertSame(none(), Try.failure(new IOException()).toOption());
+        assertEquals(some(value), Either.right(value).toOption());
+        assertSame(none(), Either.left(value).toOption());
+    }
+
+    @Test
+    void shallSurviveSerialization() throws Exception {
+        // Given
+        final Option<UUID> value = some(randomUUID());
+
+        // Then
+        assertEquals(value, roundTrip(value));
+        assertSame(none(), roundTrip(none()));
+        assertFalse(roundTrip(none()).isSome());
+    }
+
+    private static Option<?> roundTrip(Option<?> option) throws IOException, ClassNotFoundException {
+        final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+
+        try (ObjectOutputStream out = new ObjectOutputStream(bytes)) {
+            out.writeObject(option);
+        }
+
+        try (ObjectInputStream in = new ObjectInputStream(new ByteArrayInputStream(bytes.toByteArray()))) {
+            return (Option<?>) in.readObject();
+        }
+    }
+}
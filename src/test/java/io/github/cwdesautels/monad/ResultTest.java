@@ -0,0 +1,159 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static io.github.cwdesautels.monad.Result.err;
+import static io.github.cwdesautels.monad.Result.ok;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+class ResultTest {
+    @Test
+    void shallSupportEqualityAmongstOk() {
+        // Given
+        final Result<UUID, String> a = ok(randomUUID());
+        final Result<UUID, String> b = ok(a.get());
+        final Result<UUID, String> c = ok(randomUUID());
+
+        // Then
+        assertEquals(a, b);
+        assertEquals(a.hashCode(), b.hashCode());
+        assertNotEquals(a, c);
+    }
+
+    @Test
+    void shallSupportEqualityAmongstErr() {
+        // Given
+        final Result<UUID, String> a = err("missing");
+        final Result<UUID, String> b = err("missing");
+
+        // Then
+        assertEquals(a, b);
+        assertNotEquals(a, err("other"));
+        assertThrows(NoSuchElementException.class, a::get);
+    }
+
+    @Test
+    void shallMapOk() {
+        // Given
+        final UUID value = randomUUID();
+        final Result<String, String> expected = ok(value.toString());
+
+        // When
+        final Result<String, String> actual = Result.<UUID, String>ok(value).map(UUID::toString);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallReuseErrWhenMapping() {
+        // Given
+        final Result<UUID, String> error = err("missing");
+
+        // When
+        final Result<String, String> actual = error
+                .map(value -> fail())
+                .flatMap(value -> fail());
+
+        // Then
+        assertSame(error, actual);
+    }
+
+    @Test
+    void shallMapError() {
+        // When
+        final Result<UUID, Integer> actual = Result.<UUID, String>err("missing").mapError(String::length);
+
+        // Then
+        assertEquals(err(7), actual);
+    }
+
+    @Test
+    void shallRecoverErr() {
+        // Given
+        final UUID value = randomUUID();
+
+        // When
+        final Result<UUID, String> actual = Result.<UUID, String>err("missing")
+                .recoverWhen(error -> error.equals("other"), error -> fail())
+                .recover(error -> value);
+
+        // Then
+        assertEquals(ok(value), actual);
+    }
+
+    @Test
+    void shallExchangeErr() {
+        // Given
+        final Result<UUID, String> expected = err("retried");
+
+        // When
+        final Result<UUID, String> actual = Result.<UUID, String>err("missing")
+                .exchange(error -> expected);
+
+        // Then
+        assertSame(expected, actual);
+    }
+
+    @Test
+    void shallConvertToEither() {
+        // Given
+        final UUID value = randomUUID();
+
+        // Then
+        assertEquals(Either.right(value), Result.<UUID, String>ok(value).toEither());
+        assertEquals(Either.left("missing"), Result.<UUID, String>err("missing").toEither());
+        assertEquals(ok(value), Result.fromEither(Either.<String, UUID>right(value)));
+    }
+
+    @Test
+    void shallConvertToTry() {
+        // When
+        final Try<UUID> actual = Result.<UUID, String>err("missing").toTry(IOException::new);
+
+        // Then
+        assertTrue(actual.getCause() instanceof IOException);
+        assertEquals("missing", actual.getCause().getMessage());
+        assertEquals(err("I broke :("), Result.fromTry(Try.failure(new IOException("I broke :(")), Throwable::getMessage));
+    }
+
+    @Test
+    void shallFold() {
+        // Then
+        assertEquals(7, Result.<UUID, String>err("missing").fold(String::length, value -> fail()));
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Paths;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class StartupTest {
+    private static final String LIBRARY = "io.github.cwdesautels.";
+
+    @Test
+    void shallLoadFewClassesForFirstTry() throws Exception {
+        // Given
+        final Set<String> expected = Set.of(
+                "io.github.cwdesautels.function.CheckedSupplier",
+                "io.github.cwdesautels.monad.Deadline",
+                "io.github.cwdesautels.monad.Success",
+                "io.github.cwdesautels.monad.Try",
+                Try.success(42).getClass().getName());
+
+        // When
+        final Set<String> actual = loadedClasses(FirstResult.class);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallLoadFewClassesForFirstEither() throws Exception {
+        // When
+        final Set<String> actual = loadedClasses(FirstEither.class);
+
+        // Then
+        assertTrue(actual.contains(Either.right(42).getClass().getName()));
+        assertTrue(actual.size() <= 3, actual::toString);
+    }
+
+    private static Set<String> loadedClasses(Class<?> main) throws IOException, InterruptedException {
+        final Process process = new ProcessBuilder(List.of(
+                Paths.get(System.getProperty("java.home"), "bin", "java").toString(),
+                "-Xshare:auto",
+                "-verbose:class",
+                "-cp",
+                System.getProperty("java.class.path"),
+                main.getName()))
+                .redirectErrorStream(true)
+                .start();
+        final Set<String> loaded = new TreeSet<>();
+
+        try (BufferedReader reader = new BufferedReader(new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+
+            while ((line = reader.readLine()) != null) {
+                final int start = line.indexOf("] " + LIBRARY);
+
+                if (start >= 0) {
+                    final String name = line.substring(start + 2).split(" ")[0];
+
+                    if (!name.startsWith(StartupTest.class.getName())) {
+                        loaded.add(name);
+                    }
+                }
+            }
+        }
+
+        assertEquals(0, process.waitFor());
+
+        return loaded;
+    }
+
+    static final class FirstResult {
+        public static void main(String[] args) {
+            System.out.println(Try.of(() -> 42).get());
+        }
+    }
+
+    static final class FirstEither {
+        public static void main(String[] args) {
+            System.out.println(Either.right(42).right());
+        }
+    }
+}
@@ -0,0 +1,106 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.monad;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.util.NoSuchElementException;
+import java.util.UUID;
+
+import static io.github.cwdesautels.monad.Try.failure;
+import static io.github.cwdesautels.monad.Try.success;
+import static java.util.UUID.randomUUID;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TryCursorTest {
+    @Test
+    void shallHoldSuccessFromSupplier() {
+        // Given
+        final UUID value = randomUUID();
+        final TryCursor<UUID> cursor = TryCursor.create();
+
+        // When
+        cursor.run(() -> value);
+
+        // Then
+        assertTrue(cursor.isSuccess());
+        assertFalse(cursor.isFailure());
+        assertSame(value, cursor.get());
+        assertThrows(UnsupportedOperationException.class, cursor::getCause);
+        assertEquals(success(value), cursor.freeze());
+    }
+
+    @Test
+    void shallHoldFailureFromFunction() {
+        // Given
+        final Exception value = new IOException("I broke :(");
+        final TryCursor<UUID> cursor = TryCursor.create();
+
+        // When
+        cursor.apply(input -> {
+            throw value;
+        }, "input");
+
+        // Then
+        assertFalse(cursor.isSuccess());
+        assertTrue(cursor.isFailure());
+        assertSame(value, cursor.getCause());
+        assertThrows(RuntimeException.class, cursor::get);
+        assertEquals(failure(value), cursor.freeze());
+    }
+
+    @Test
+    void shallOverwritePreviousOutcome() {
+        // Given
+        final UUID value = randomUUID();
+        final TryCursor<UUID> cursor = TryCursor.create();
+
+        // When
+        cursor.run(() -> {
+            throw new IOException("I broke :(");
+        }).run(() -> value);
+
+        // Then
+        assertTrue(cursor.isSuccess());
+        assertEquals(value, cursor.orElse(randomUUID()));
+    }
+
+    @Test
+    void shallRejectAccessBeforeRun() {
+        // Given
+        final TryCursor<UUID> cursor = TryCursor.create();
+
+        // Then
+        assertFalse(cursor.isSuccess());
+        assertFalse(cursor.isFailure());
+        assertThrows(NoSuchElementException.class, cursor::get);
+        assertThrows(NoSuchElementException.class, cursor::freeze);
+    }
+}
@@ -24,12 +24,25 @@
 
 package io.github.cwdesautels.monad;
 
+import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 
+import java.io.FileNotFoundException;
 import java.io.IOException;
+import java.time.Duration;
 import java.util.ConcurrentModificationException;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static io.github.cwdesautels.monad.Either.left;
 import static io.github.cwdesautels.monad.Either.right;
@@ -49,6 +62,13 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
 class TryTest {
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
     @Test
     void shallSupportEqualityAmongstSuccess() {
         // Given
@@ -472,4 +492,367 @@ class TryTest {
         // Then
         assertEquals(expected, actual);
     }
+
+    @Test
+    void shallCollectAllWhenSuccess() {
+        // Given
+        final UUID a = randomUUID();
+        final UUID b = randomUUID();
+        final Try<List<UUID>> expected = success(List.of(a, b));
+
+        // When
+        final Try<List<UUID>> actual = Try.all(executor, () -> a, () -> b);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallFailAllAndCancelRemainingWhenFailure() throws InterruptedException {
+        // Given
+        final Exception value = new IOException("I broke :(");
+        final Try<List<UUID>> expected = failure(value);
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch interrupted = new CountDownLatch(1);
+
+        // When
+        final Try<List<UUID>> actual = Try.all(executor, () -> {
+            try {
+                started.countDown();
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+
+                return randomUUID();
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        }, () -> {
+            started.await();
+            throw value;
+        });
+
+        // Then
+        assertEquals(expected, actual);
+        assertTrue(interrupted.await(1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    void shallReturnFirstSuccessFromAny() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+
+        // When
+        final Try<UUID> actual = Try.any(executor, () -> {
+            throw new IOException("I broke :(");
+        }, () -> value);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallSuppressAllCausesWhenAnyExhausted() {
+        // Given
+        final Exception a = new IOException("I broke :(");
+        final Exception b = new ConcurrentModificationException();
+
+        // When
+        final Try<UUID> actual = Try.any(executor, () -> {
+            throw a;
+        }, () -> {
+            throw b;
+        });
+
+        // Then
+        assertTrue(actual.isFailure());
+        assertEquals(NoSuchElementException.class, actual.getCause().getClass());
+        assertEquals(List.of(a, b), List.of(actual.getCause().getSuppressed()));
+    }
+
+    @Test
+    void shallReturnFirstCompletionFromRace() {
+        // Given
+        final Exception value = new IOException("I broke :(");
+        final Try<UUID> expected = failure(value);
+
+        // When
+        final Try<UUID> actual = Try.race(executor, () -> {
+            Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+
+            return randomUUID();
+        }, () -> {
+            throw value;
+        });
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallRecoverWithMostSpecificHandler() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+        final Recovery<UUID> recovery = Recovery.<UUID>builder()
+                .on(Exception.class, error -> randomUUID())
+                .on(IOException.class, error -> value)
+                .build();
+
+        // When
+        final Try<UUID> actual = Try.<UUID>failure(new FileNotFoundException("I broke :(")).recover(recovery);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallIgnoreRecoveryWhenNoHandlerMatches() {
+        // Given
+        final Exception value = new IOException("I broke :(");
+        final Try<UUID> expected = failure(value);
+        final Recovery<UUID> recovery = Recovery.<UUID>builder()
+                .on(IllegalStateException.class, error -> randomUUID())
+                .build();
+
+        // When
+        final Try<UUID> actual = Try.<UUID>failure(value).recover(recovery);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallExchangeWithMostSpecificHandler() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+        final Recovery<Try<UUID>> recovery = Recovery.<Try<UUID>>builder()
+                .on(RuntimeException.class, error -> failure(error))
+                .on(ConcurrentModificationException.class, error -> success(value))
+                .build();
+
+        // When
+        final Try<UUID> actual = Try.<UUID>failure(new ConcurrentModificationException()).exchange(recovery);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallCloseResourceWhenUsing() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+        final CountDownLatch closed = new CountDownLatch(1);
+
+        // When
+        final Try<UUID> actual = Try.using(() -> closed::countDown, resource -> value);
+
+        // Then
+        assertEquals(expected, actual);
+        assertEquals(0, closed.getCount());
+    }
+
+    @Test
+    void shallSuppressCloseErrorWhenUsingFails() {
+        // Given
+        final Exception value = new IOException("I broke :(");
+        final Exception suppressed = new IllegalStateException();
+        final Try<UUID> expected = failure(value);
+
+        // When
+        final Try<UUID> actual = Try.using(() -> () -> {
+            throw suppressed;
+        }, resource -> {
+            throw value;
+        });
+
+        // Then
+        assertEquals(expected, actual);
+        assertEquals(List.of(suppressed), List.of(actual.getCause().getSuppressed()));
+    }
+
+    @Test
+    void shallNotHedgeWhenFirstAttemptIsFast() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        final Try<UUID> actual = Try.hedge(executor, () -> {
+            attempts.incrementAndGet();
+
+            return value;
+        }, Duration.ofMinutes(1), 2);
+
+        // Then
+        assertEquals(expected, actual);
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    void shallReturnHedgeWhenFirstAttemptIsSlow() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<UUID> expected = success(value);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        // When
+        final Try<UUID> actual = Try.hedge(executor, () -> {
+            if (attempts.getAndIncrement() == 0) {
+                Thread.sleep(TimeUnit.MINUTES.toMillis(1));
+            }
+
+            return value;
+        }, Duration.ofMillis(10), 1);
+
+        // Then
+        assertEquals(expected, actual);
+        assertEquals(2, attempts.get());
+    }
+
+    @Test
+    void shallSuppressAllCausesWhenHedgesExhausted() {
+        // Given
+        final Exception value = new IOException("I broke :(");
+
+        // When
+        final Try<UUID> actual = Try.hedge(executor, () -> {
+            throw value;
+        }, Duration.ofMinutes(1), 2);
+
+        // Then
+        assertTrue(actual.isFailure());
+        assertEquals(NoSuchElementException.class, actual.getCause().getClass());
+        assertEquals(List.of(value, value, value), List.of(actual.getCause().getSuppressed()));
+    }
+
+    @Test
+    void shallUnwrapFailedFuture() {
+        // Given
+        final Exception value = new IOException("I broke :(");
+        final Try<UUID> expected = failure(value);
+
+        // When
+        final Try<UUID> actual = Try.fromFuture(CompletableFuture.supplyAsync(() -> {
+            throw new CompletionException(value);
+        }, executor));
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallLiftCompletionStageWithoutFailing() {
+        // Given
+        final Exception value = new IOException("I broke :(");
+        final Try<UUID> expected = failure(value);
+        final CompletableFuture<UUID> pending = new CompletableFuture<>();
+
+        // When
+        final CompletableFuture<Try<UUID>> actual = Try.fromCompletionStage(pending);
+        pending.completeExceptionally(value);
+
+        // Then
+        assertEquals(expected, actual.getNow(null));
+    }
+
+    @Test
+    void shallConvertToCompletableFuture() {
+        // Given
+        final UUID value = randomUUID();
+        final Exception error = new IOException("I broke :(");
+
+        // When
+        final CompletableFuture<UUID> success = success(value).toCompletableFuture();
+        final CompletableFuture<UUID> failure = Try.<UUID>failure(error).toCompletableFuture();
+
+        // Then
+        assertEquals(value, success.getNow(null));
+        assertSame(error, assertThrows(CompletionException.class, failure::join).getCause());
+    }
+
+    @Test
+    void shallAwaitAllFutures() {
+        // Given
+        final UUID a = randomUUID();
+        final UUID b = randomUUID();
+        final Try<List<UUID>> expected = success(List.of(a, b));
+
+        // When
+        final Try<List<UUID>> actual = Try.awaitAll(List.of(
+                CompletableFuture.completedFuture(a),
+                CompletableFuture.supplyAsync(() -> b, executor)), Duration.ofMinutes(1));
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallTimeoutAwaitingAllFutures() {
+        // When
+        final Try<List<UUID>> actual = Try.awaitAll(List.of(new CompletableFuture<UUID>()), Duration.ofMillis(10));
+
+        // Then
+        assertTrue(actual.isFailure());
+        assertEquals(TimeoutException.class, actual.getCause().getClass());
+    }
+
+    @Test
+    void shallYieldFromComprehension() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<String> expected = success(value + "1" + "2" + "3");
+
+        // When
+        final Try<String> actual = Try.For(() -> value)
+                .then(a -> a + "1")
+                .then((a, b) -> b + "2")
+                .then((a, b, c) -> c + "3")
+                .yield((a, b, c, d) -> d);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallYieldFromSixStepComprehension() {
+        // Given
+        final UUID value = randomUUID();
+        final Try<String> expected = success(value + "12345");
+
+        // When
+        final Try<String> actual = Try.For(() -> value)
+                .then(a -> a + "1")
+                .then((a, b) -> b + "2")
+                .then((a, b, c) -> c + "3")
+                .then((a, b, c, d) -> d + "4")
+                .then((a, b, c, d, e) -> e + "5")
+                .yield((a, b, c, d, e, f) -> f);
+
+        // Then
+        assertEquals(expected, actual);
+    }
+
+    @Test
+    void shallStopComprehensionAtFirstFailure() {
+        // Given
+        final IOException expected = new IOException("I broke :(");
+        final AtomicInteger calls = new AtomicInteger();
+
+        // When
+        final Try<UUID> actual = Try.For(() -> randomUUID())
+                .then(a -> {
+                    throw expected;
+                })
+                .then((a, b) -> calls.incrementAndGet())
+                .yield((a, b, c) -> a);
+
+        // Then
+        assertTrue(actual.isFailure());
+        assertSame(expected, actual.getCause());
+        assertEquals(0, calls.get());
+    }
 }
@@ -0,0 +1,224 @@
+/*
+ * MIT License
+ *
+ * Copyright (c) 2020 Carl Desautels
+ *
+ * Permission is hereby granted, free of charge, to any person obtaining a copy
+ * of this software and associated documentation files (the "Software"), to deal
+ * in the Software without restriction, including without limitation the rights
+ * to use, copy, modify, merge, publish, distribute, sublicense, and/or sell
+ * copies of the Software, and to permit persons to whom the Software is
+ * furnished to do so, subject to the following conditions:
+ *
+ * The above copyright notice and this permission notice shall be included in all
+ * copies or substantial portions of the Software.
+ *
+ * THE SOFTWARE IS PROVIDED "AS IS", WITHOUT WARRANTY OF ANY KIND, EXPRESS OR
+ * IMPLIED, INCLUDING BUT NOT LIMITED TO THE WARRANTIES OF MERCHANTABILITY,
+ * FITNESS FOR A PARTICULAR PURPOSE AND NONINFRINGEMENT. IN NO EVENT SHALL THE
+ * AUTHORS OR COPYRIGHT HOLDERS BE LIABLE FOR ANY CLAIM, DAMAGES OR OTHER
+ * LIABILITY, WHETHER IN AN ACTION OF CONTRACT, TORT OR OTHERWISE, ARISING FROM,
+ * OUT OF OR IN CONNECTION WITH THE SOFTWARE OR THE USE OR OTHER DEALINGS IN THE
+ * SOFTWARE.
+ */
+
+package io.github.cwdesautels.processor;
+
+import io.github.cwdesautels.monad.Either;
+import io.github.cwdesautels.monad.Try;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import javax.tools.DiagnosticCollector;
+import javax.tools.JavaCompiler;
+import javax.tools.JavaFileObject;
+import javax.tools.SimpleJavaFileObject;
+import javax.tools.StandardJavaFileManager;
+import javax.tools.StandardLocation;
+import javax.tools.ToolProvider;
+import java.io.IOException;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.Proxy;
+import java.net.URI;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AdapterProcessorTest {
+    private static final String SERVICE = "package sample;\n"
+            + "\n"
+            + "@io.github.cwdesautels.annotation.TryAdapter\n"
+            + "@io.github.cwdesautels.annotation.EitherAdapter\n"
+            + "public interface Service<K> {\n"
+            + "    String find(K key) throws java.io.IOException;\n"
+            + "    int count(String... keys);\n"
+            + "    void clear() throws Exception;\n"
+            + "    <V extends Number> V echo(V value);\n"
+            + "}\n";
+
+    @TempDir
+    Path directory;
+
+    @Test
+    void shallGenerateTryAdapter() throws Exception {
+        // Given
+        final ClassLoader loader = compile(SERVICE);
+        final Class<?> service = loader.loadClass("sample.Service");
+        final Class<?> adapter = loader.loadClass("sample.ServiceTry");
+        final Object delegate = delegate(service, (proxy, method, args) -> {
+            if (method.getName().equals("find")) {
+                return "found " + args[0];
+            } else if (method.getName().equals("count")) {
+                return ((Object[]) args[0]).length;
+            } else if (method.getName().equals("clear")) {
+                throw new IOException("busy");
+            } else {
+                return args[0];
+            }
+        });
+        final Object target = adapter.getConstructor(service).newInstance(delegate);
+
+        // When
+        final Try<?> find = (Try<?>) adapter.getMethod("find", Object.class).invoke(target, 1);
+        final Try<?> count = (Try<?>) adapter.getMethod("count", String[].class).invoke(target, (Object) new String[]{"a", "b"});
+        final Try<?> clear = (Try<?>) adapter.getMethod("clear").invoke(target);
+        final Try<?> echo = (Try<?>) adapter.getMethod("echo", Number.class).invoke(target, 7L);
+
+        // Then
+        assertEquals(Try.success("found 1"), find);
+        assertEquals(Try.success(2), count);
+        assertTrue(clear.isFailure());
+        assertEquals("busy", clear.getCause().getMessage());
+        assertEquals(Try.success(7L), echo);
+        assertTrue(adapter.getMethod("count", String[].class).isVarArgs());
+    }
+
+    @Test
+    void shallGenerateEitherAdapter() throws Exception {
+        // Given
+        final IOException expected = new IOException("missing");
+        final ClassLoader loader = compile(SERVICE);
+        final Class<?> service = loader.loadClass("sample.Service");
+        final Class<?> adapter = loader.loadClass("sample.ServiceEither");
+        final Object delegate = delegate(service, (proxy, method, args) -> {
+            throw expected;
+        });
+        final Object target = adapter.getConstructor(service).newInstance(delegate);
+
+        // When
+        final Either<?, ?> actual = (Either<?, ?>) adapter.getMethod("find", Object.class).invoke(target, 1);
+
+        // Then
+        assertTrue(actual.isLeft());
+        assertSame(expected, actual.getLeft());
+    }
+
+    @Test
+    void shallRejectClasses() throws IOException {
+        // Given
+        final String source = "package sample;\n"
+                + "\n"
+                + "@io.github.cwdesautels.annotation.TryAdapter\n"
+                + "public class Service {\n"
+                + "}\n";
+
+        // When
+        final boolean actual = compiles(source);
+
+        // Then
+        assertFalse(actual);
+    }
+
+    @Test
+    void shallNotShadowDelegateWithParameters() throws Exception {
+        // Given
+        final String source = "package sample;\n"
+                + "\n"
+                + "@io.github.cwdesautels.annotation.TryAdapter\n"
+                + "public interface Service {\n"
+                + "    String find(String delegate);\n"
+                + "}\n";
+        final ClassLoader loader = compile(source);
+        final Class<?> service = loader.loadClass("sample.Service");
+        final Class<?> adapter = loader.loadClass("sample.ServiceTry");
+        final Object delegate = delegate(service, (proxy, method, args) -> "found " + args[0]);
+        final Object target = adapter.getConstructor(service).newInstance(delegate);
+
+        // When
+        final Try<?> actual = (Try<?>) adapter.getMethod("find", String.class).invoke(target, "key");
+
+        // Then
+        assertEquals(Try.success("found key"), actual);
+    }
+
+    @Test
+    void shallRejectMethodsThrowingThrowable() throws IOException {
+        // Given
+        final String source = "package sample;\n"
+                + "\n"
+                + "@io.github.cwdesautels.annotation.TryAdapter\n"
+                + "public interface Service {\n"
+                + "    void run() throws Throwable;\n"
+                + "}\n";
+
+        // When
+        final boolean actual = compiles(source);
+
+        // Then
+        assertFalse(actual);
+        assertFalse(Files.exists(directory.resolve("sample").resolve("ServiceTry.java")));
+    }
+
+    private ClassLoader compile(String source) throws IOException {
+        assertTrue(compiles(source));
+
+        return new URLClassLoader(new URL[]{directory.toUri().toURL()}, getClass().getClassLoader());
+    }
+
+    private boolean compiles(String source) throws IOException {
+        final JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+        final DiagnosticCollector<JavaFileObject> diagnostics = new DiagnosticCollector<>();
+
+        try (StandardJavaFileManager files = compiler.getStandardFileManager(diagnostics, null, null)) {
+            Files.createDirectories(directory);
+            files.setLocation(StandardLocation.CLASS_OUTPUT, List.of(directory.toFile()));
+            files.setLocation(StandardLocation.SOURCE_OUTPUT, List.of(directory.toFile()));
+
+            final JavaCompiler.CompilationTask task = compiler.getTask(null,
+                    files,
+                    diagnostics,
+                    List.of("-classpath", System.getProperty("java.class.path")),
+                    null,
+                    List.of(new Source(source)));
+
+            task.setProcessors(List.of(new AdapterProcessor()));
+
+            return task.call();
+        }
+    }
+
+    private static Object delegate(Class<?> service, InvocationHandler handler) {
+        return Proxy.newProxyInstance(service.getClassLoader(), new Class<?>[]{service}, handler);
+    }
+
+    private static final class Source extends SimpleJavaFileObject {
+        private final String content;
+
+        private Source(String content) {
+            super(URI.create("string:///sample/Service.java"), Kind.SOURCE);
+            this.content = content;
+        }
+
+        @Override
+        public CharSequence getCharContent(boolean ignoreEncodingErrors) {
+            return content;
+        }
+    }
+}